@@ -18,7 +18,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,24 +35,50 @@ import org.openhab.binding.bluetooth.BluetoothDeviceListener;
 import org.openhab.binding.bluetooth.DelegateBluetoothDevice;
 import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
 import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RoamingBluetoothDevice} acts as a roaming device by delegating
  * its operations to actual adapters.
  *
+ * The delegate is kept up to date as scan records arrive from the adapters, so choosing it for an operation does not
+ * need to look at all adapters. Another adapter takes over when it receives the device clearly better than the
+ * current delegate or when the current delegate has not received the device for a while. A connected or connecting
+ * delegate is kept.
+ *
  * @author Connor Petty - Initial contribution
  */
 @NonNullByDefault
 public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
+    // weight of a new RSSI value in the smoothed RSSI of an adapter
+    private static final double RSSI_SMOOTHING = 0.3;
+    // dBm by which another adapter has to receive the device better to take over
+    private static final double HANDOVER_MARGIN = 3;
+    static final long STALE_TIME = TimeUnit.SECONDS.toNanos(30);
+
+    private final Logger logger = LoggerFactory.getLogger(RoamingBluetoothDevice.class);
+
     private final Map<BluetoothDevice, Listener> devices = new ConcurrentHashMap<>();
 
     private final List<BluetoothDeviceListener> eventListeners = new CopyOnWriteArrayList<>();
 
     private final AtomicReference<@Nullable BluetoothDevice> currentDelegateRef = new AtomicReference<>();
 
+    private final Object selectionLock = new Object();
+
+    private final AtomicLong handovers = new AtomicLong();
+
+    private final LongSupplier nanoClock;
+
     protected RoamingBluetoothDevice(RoamingBridgeHandler roamingAdapter, BluetoothAddress address) {
+        this(roamingAdapter, address, System::nanoTime);
+    }
+
+    RoamingBluetoothDevice(RoamingBridgeHandler roamingAdapter, BluetoothAddress address, LongSupplier nanoClock) {
         super(roamingAdapter, address);
+        this.nanoClock = nanoClock;
     }
 
     public void addBluetoothDevice(BluetoothDevice device) {
@@ -61,6 +90,15 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
         if (listener != null) {
             device.removeListener(listener);
         }
+        // the next operation selects a new delegate
+        currentDelegateRef.compareAndSet(device, null);
+    }
+
+    /**
+     * @return the number of times another adapter took over this device
+     */
+    public long getHandoverCount() {
+        return handovers.get();
     }
 
     @Override
@@ -70,25 +108,90 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
     @Override
     protected @Nullable BluetoothDevice getDelegate() {
+        BluetoothDevice delegate = currentDelegateRef.get();
+        if (delegate == null) {
+            delegate = selectDelegate();
+        }
+        return delegate;
+    }
+
+    /**
+     * Selects the delegate from all adapters, which is only needed if there is no current delegate.
+     */
+    private @Nullable BluetoothDevice selectDelegate() {
         BluetoothDevice newDelegate = null;
-        int newRssi = Integer.MIN_VALUE;
-        for (BluetoothDevice device : devices.keySet()) {
-            ConnectionState state = device.getConnectionState();
-            if (state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED) {
-                newDelegate = device;
-                break;
+        BluetoothDevice oldDelegate;
+        synchronized (selectionLock) {
+            long now = nanoClock.getAsLong();
+            double newRssi = Double.NEGATIVE_INFINITY;
+            boolean newFresh = false;
+            for (Listener listener : devices.values()) {
+                if (isConnected(listener.device)) {
+                    newDelegate = listener.device;
+                    break;
+                }
+                boolean fresh = !listener.isStale(now);
+                double rssi = listener.getRssi();
+                if (newDelegate == null || (fresh && !newFresh) || (fresh == newFresh && rssi > newRssi)) {
+                    newDelegate = listener.device;
+                    newRssi = rssi;
+                    newFresh = fresh;
+                }
             }
-            Integer rssi = device.getRssi();
-            if (rssi != null && (newDelegate == null || rssi > newRssi)) {
-                newRssi = rssi;
-                newDelegate = device;
+            oldDelegate = currentDelegateRef.getAndSet(newDelegate);
+        }
+        delegateChanged(oldDelegate, newDelegate);
+        return newDelegate;
+    }
+
+    private void scanReceived(Listener listener, int rssi) {
+        BluetoothDevice oldDelegate;
+        synchronized (selectionLock) {
+            long now = nanoClock.getAsLong();
+            listener.update(now, rssi);
+
+            oldDelegate = currentDelegateRef.get();
+            if (oldDelegate == listener.device) {
+                return;
+            }
+            if (oldDelegate != null) {
+                if (isConnected(oldDelegate)) {
+                    return;
+                }
+                Listener current = devices.get(oldDelegate);
+                if (current != null && !current.isStale(now)
+                        && listener.getRssi() <= current.getRssi() + HANDOVER_MARGIN) {
+                    return;
+                }
             }
+            currentDelegateRef.set(listener.device);
         }
-        BluetoothDevice oldDelegate = currentDelegateRef.getAndSet(newDelegate);
-        if (oldDelegate != newDelegate) { // using reference comparison is valid in this case
-            notifyListeners(BluetoothEventType.ADAPTER_CHANGED, getAdapter(newDelegate));
+        delegateChanged(oldDelegate, listener.device);
+    }
+
+    private void connectionStateChanged(BluetoothDevice device) {
+        if (!isConnected(device)) {
+            return;
         }
-        return newDelegate;
+        BluetoothDevice oldDelegate = currentDelegateRef.getAndSet(device);
+        delegateChanged(oldDelegate, device);
+    }
+
+    private void delegateChanged(@Nullable BluetoothDevice oldDelegate, @Nullable BluetoothDevice newDelegate) {
+        if (oldDelegate == newDelegate) { // using reference comparison is valid in this case
+            return;
+        }
+        if (oldDelegate != null && newDelegate != null) {
+            long count = handovers.incrementAndGet();
+            logger.debug("Device {} handed over from adapter {} to {}, {} handovers so far", address,
+                    oldDelegate.getAdapter().getUID(), newDelegate.getAdapter().getUID(), count);
+        }
+        notifyListeners(BluetoothEventType.ADAPTER_CHANGED, getAdapter(newDelegate));
+    }
+
+    private static boolean isConnected(BluetoothDevice device) {
+        ConnectionState state = device.getConnectionState();
+        return state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED;
     }
 
     private BluetoothAdapter getAdapter(@Nullable BluetoothDevice delegate) {
@@ -108,12 +211,40 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
         private BluetoothDevice device;
 
+        // guarded by the selectionLock
+        private boolean seen = false;
+        private long lastSeen;
+        private double smoothedRssi = Double.NaN;
+
         public Listener(BluetoothDevice device) {
             this.device = device;
         }
 
+        private void update(long now, int rssi) {
+            seen = true;
+            lastSeen = now;
+            if (rssi != Integer.MIN_VALUE && rssi != 0) {
+                smoothedRssi = Double.isNaN(smoothedRssi) ? rssi
+                        : smoothedRssi + RSSI_SMOOTHING * (rssi - smoothedRssi);
+            }
+        }
+
+        private boolean isStale(long now) {
+            return !seen || now - lastSeen > STALE_TIME;
+        }
+
+        private double getRssi() {
+            if (!Double.isNaN(smoothedRssi)) {
+                return smoothedRssi;
+            }
+            // nothing received through this listener yet, so we use what the adapter knows
+            Integer rssi = device.getRssi();
+            return rssi != null ? rssi : Double.NEGATIVE_INFINITY;
+        }
+
         @Override
         public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
+            scanReceived(this, scanNotification.getRssi());
             if (device == getDelegate()) {
                 notifyListeners(BluetoothEventType.SCAN_RECORD, scanNotification);
             }
@@ -121,6 +252,7 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
         @Override
         public void onConnectionStateChange(BluetoothConnectionStatusNotification connectionNotification) {
+            connectionStateChanged(device);
             if (device == getDelegate()) {
                 notifyListeners(BluetoothEventType.CONNECTION_STATE, connectionNotification);
             }
@@ -21,10 +21,12 @@ import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.BaseBluetoothBridgeHandlerConfiguration;
 import org.openhab.binding.bluetooth.BluetoothAdapter;
 import org.openhab.binding.bluetooth.BluetoothAddress;
 import org.openhab.binding.bluetooth.BluetoothBindingConstants;
 import org.openhab.binding.bluetooth.BluetoothDiscoveryListener;
+import org.openhab.binding.bluetooth.RssiFilter;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -33,6 +35,8 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.types.Command;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RoamingBridgeHandler} is responsible for handling commands, which are
@@ -43,6 +47,8 @@ import org.openhab.core.types.Command;
 @NonNullByDefault
 public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBluetoothAdapter {
 
+    private final Logger logger = LoggerFactory.getLogger(RoamingBridgeHandler.class);
+
     private final Set<BluetoothAdapter> adapters = new CopyOnWriteArraySet<>();
 
     /*
@@ -52,12 +58,19 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
     private Map<BluetoothAddress, RoamingBluetoothDevice> devices = new HashMap<>();
     private ThingUID[] groupUIDs = new ThingUID[0];
 
+    private BaseBluetoothBridgeHandlerConfiguration config = new BaseBluetoothBridgeHandlerConfiguration();
+
+    // RSSI values received and published for all roaming devices of this adapter
+    private final RssiFilter.Statistics rssiStatistics = new RssiFilter.Statistics();
+
     public RoamingBridgeHandler(Bridge bridge) {
         super(bridge);
     }
 
     @Override
     public void initialize() {
+        config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+
         Object value = getConfig().get(RoamingBindingConstants.CONFIGURATION_GROUP_ADAPTER_UIDS);
         if (value == null || !(value instanceof String) || "".equals(value)) {
             groupUIDs = new ThingUID[0];
@@ -85,6 +98,8 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
 
     @Override
     public void dispose() {
+        logger.debug("Adapter '{}' published {} of {} received RSSI values", getUID(), rssiStatistics.getPublished(),
+                rssiStatistics.getReceived());
         // nothing that needs to be done here.
         // Listener cleanup will be performed by the discovery participant anyway.
     }
@@ -104,6 +119,11 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
         return getThing().getLabel();
     }
 
+    @Override
+    public RssiFilter createRssiFilter() {
+        return new RssiFilter(config, rssiStatistics);
+    }
+
     private boolean isRoamingMember(BluetoothAdapter adapter) {
         return isRoamingMember(adapter.getUID());
     }
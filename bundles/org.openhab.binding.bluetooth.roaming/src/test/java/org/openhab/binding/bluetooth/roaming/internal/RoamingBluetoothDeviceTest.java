@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.roaming.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.BaseBluetoothDevice;
+import org.openhab.binding.bluetooth.BluetoothAdapter;
+import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.BluetoothCharacteristic;
+import org.openhab.binding.bluetooth.BluetoothDescriptor;
+import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests the handover of a {@link RoamingBluetoothDevice} between adapters.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RoamingBluetoothDeviceTest {
+    private static final BluetoothAddress ADDRESS = new BluetoothAddress("00:11:22:33:44:55");
+
+    private final BluetoothAdapter adapter1 = mock(BluetoothAdapter.class);
+    private final BluetoothAdapter adapter2 = mock(BluetoothAdapter.class);
+    private final AdapterDevice device1 = new AdapterDevice(adapter1);
+    private final AdapterDevice device2 = new AdapterDevice(adapter2);
+
+    // the clock of the roaming device, starting at 0 like System.nanoTime() may
+    private long now = 0;
+    private @NonNullByDefault({}) RoamingBluetoothDevice roamingDevice;
+
+    @BeforeEach
+    public void setUp() {
+        roamingDevice = new RoamingBluetoothDevice(mock(RoamingBridgeHandler.class), ADDRESS, () -> now);
+        roamingDevice.addBluetoothDevice(device1);
+        roamingDevice.addBluetoothDevice(device2);
+    }
+
+    @Test
+    public void testFirstScanSelectsAdapter() {
+        device2.scan(-70);
+        assertSame(adapter2, roamingDevice.getAdapter());
+        assertEquals(0, roamingDevice.getHandoverCount());
+    }
+
+    @Test
+    public void testDeviceSeenAtTimeZeroIsNotStale() {
+        device1.scan(-60);
+        // adapter 1 received the device at clock value 0, so it is not replaced by a worse adapter
+        device2.scan(-90);
+        assertSame(adapter1, roamingDevice.getAdapter());
+        assertEquals(0, roamingDevice.getHandoverCount());
+    }
+
+    @Test
+    public void testTieKeepsCurrentAdapter() {
+        device1.scan(-60);
+        for (int i = 0; i < 20; i++) {
+            now += 1_000_000_000L;
+            device2.scan(-60);
+            device1.scan(-60);
+        }
+        assertSame(adapter1, roamingDevice.getAdapter());
+        assertEquals(0, roamingDevice.getHandoverCount());
+    }
+
+    @Test
+    public void testHysteresis() {
+        device1.scan(-60);
+        // better, but within the handover margin
+        device2.scan(-58);
+        assertSame(adapter1, roamingDevice.getAdapter());
+
+        // the smoothed RSSI of adapter 2 rises above the margin
+        device2.scan(-50);
+        assertSame(adapter2, roamingDevice.getAdapter());
+        assertEquals(1, roamingDevice.getHandoverCount());
+
+        // a single better value of adapter 1 does not switch back
+        device1.scan(-50);
+        assertSame(adapter2, roamingDevice.getAdapter());
+        assertEquals(1, roamingDevice.getHandoverCount());
+    }
+
+    @Test
+    public void testStaleAdapterIsReplaced() {
+        device1.scan(-40);
+        now += RoamingBluetoothDevice.STALE_TIME / 2;
+        device2.scan(-80);
+        assertSame(adapter1, roamingDevice.getAdapter());
+
+        now += RoamingBluetoothDevice.STALE_TIME;
+        device2.scan(-80);
+        assertSame(adapter2, roamingDevice.getAdapter());
+        assertEquals(1, roamingDevice.getHandoverCount());
+    }
+
+    @Test
+    public void testConnectedAdapterIsKept() {
+        device1.scan(-80);
+        device1.connected();
+        device2.scan(-30);
+        device2.scan(-30);
+        assertSame(adapter1, roamingDevice.getAdapter());
+
+        // even if it is stale
+        now += 2 * RoamingBluetoothDevice.STALE_TIME;
+        device2.scan(-30);
+        assertSame(adapter1, roamingDevice.getAdapter());
+    }
+
+    @Test
+    public void testConnectingAdapterTakesOver() {
+        device1.scan(-40);
+        device2.scan(-80);
+        device2.connected();
+        assertSame(adapter2, roamingDevice.getAdapter());
+    }
+
+    @Test
+    public void testRemovedDelegateIsReplaced() {
+        AdapterDevice device3 = new AdapterDevice(mock(BluetoothAdapter.class));
+        roamingDevice.addBluetoothDevice(device3);
+        device1.scan(-40);
+        device2.scan(-60);
+        device3.scan(-70);
+        assertSame(adapter1, roamingDevice.getAdapter());
+
+        roamingDevice.removeBluetoothDevice(device1);
+        // the next operation selects the adapter with the best RSSI
+        roamingDevice.getConnectionState();
+        assertSame(adapter2, roamingDevice.getAdapter());
+    }
+
+    @Test
+    public void testSelectionPrefersFreshAdapters() {
+        BluetoothAdapter adapter3 = mock(BluetoothAdapter.class);
+        AdapterDevice device3 = new AdapterDevice(adapter3);
+        roamingDevice.addBluetoothDevice(device3);
+        device1.scan(-40);
+
+        now += 2 * RoamingBluetoothDevice.STALE_TIME;
+        // adapter 1 is stale, adapter 2 takes over
+        device2.scan(-80);
+        device3.scan(-85);
+        assertSame(adapter2, roamingDevice.getAdapter());
+
+        roamingDevice.removeBluetoothDevice(device2);
+        // the stale adapter 1 has the better RSSI, but adapter 3 still receives the device
+        roamingDevice.getConnectionState();
+        assertSame(adapter3, roamingDevice.getAdapter());
+    }
+
+    private static class AdapterDevice extends BaseBluetoothDevice {
+
+        AdapterDevice(BluetoothAdapter adapter) {
+            super(adapter, ADDRESS);
+        }
+
+        void scan(int rssi) {
+            BluetoothScanNotification notification = new BluetoothScanNotification();
+            notification.setRssi(rssi);
+            notifyListeners(BluetoothEventType.SCAN_RECORD, notification);
+        }
+
+        void connected() {
+            connectionState = ConnectionState.CONNECTED;
+            notifyListeners(BluetoothEventType.CONNECTION_STATE,
+                    new BluetoothConnectionStatusNotification(ConnectionState.CONNECTED));
+        }
+
+        @Override
+        public boolean connect() {
+            return false;
+        }
+
+        @Override
+        public boolean disconnect() {
+            return false;
+        }
+
+        @Override
+        public boolean discoverServices() {
+            return false;
+        }
+
+        @Override
+        public boolean readCharacteristic(BluetoothCharacteristic characteristic) {
+            return false;
+        }
+
+        @Override
+        public boolean writeCharacteristic(BluetoothCharacteristic characteristic) {
+            return false;
+        }
+
+        @Override
+        public boolean enableNotifications(BluetoothCharacteristic characteristic) {
+            return false;
+        }
+
+        @Override
+        public boolean disableNotifications(BluetoothCharacteristic characteristic) {
+            return false;
+        }
+
+        @Override
+        public boolean enableNotifications(BluetoothDescriptor descriptor) {
+            return false;
+        }
+
+        @Override
+        public boolean disableNotifications(BluetoothDescriptor descriptor) {
+            return false;
+        }
+    }
+}
@@ -59,6 +59,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private BaseBluetoothBridgeHandlerConfiguration config = new BaseBluetoothBridgeHandlerConfiguration();
 
+    // RSSI values received and published for all devices of this adapter
+    private final RssiFilter.Statistics rssiStatistics = new RssiFilter.Statistics();
+
     private @Nullable ScheduledFuture<?> inactiveRemovalJob;
 
     /**
@@ -114,6 +117,10 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Adapter '{}' published {} of {} received RSSI values", getUID(),
+                    rssiStatistics.getPublished(), rssiStatistics.getReceived());
+        }
         // clean up orphaned entries
         synchronized (devices) {
             for (BD device : devices.values()) {
@@ -193,6 +200,15 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected abstract BD createDevice(BluetoothAddress address);
 
+    @Override
+    public RssiFilter createRssiFilter() {
+        return new RssiFilter(config, rssiStatistics);
+    }
+
+    public RssiFilter.Statistics getRssiStatistics() {
+        return rssiStatistics;
+    }
+
     @Override
     public boolean hasHandlerForDevice(BluetoothAddress address) {
         String addrStr = address.toString();
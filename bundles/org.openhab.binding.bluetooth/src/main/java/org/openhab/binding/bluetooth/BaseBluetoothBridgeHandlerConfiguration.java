@@ -26,4 +26,7 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    public int rssiSmoothing = 5;
+    public int rssiUpdateInterval = 5;
+    public int rssiChangeThreshold = 2;
 }
@@ -64,6 +64,8 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     private @Nullable ZonedDateTime lastActivityTime;
 
+    private @Nullable RssiFilter rssiFilter;
+
     public BeaconBluetoothHandler(Thing thing) {
         super(thing);
         deviceLock = new ReentrantLock();
@@ -92,6 +94,7 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         }
 
         adapter = (BluetoothAdapter) bridgeHandler;
+        rssiFilter = adapter.createRssiFilter();
 
         try {
             deviceLock.lock();
@@ -224,7 +227,17 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         onActivity();
         int rssi = scanNotification.getRssi();
         if (rssi != Integer.MIN_VALUE) {
-            updateRSSI(rssi);
+            RssiFilter filter = rssiFilter;
+            if (filter == null || rssi == 0) {
+                updateRSSI(rssi);
+                return;
+            }
+            Integer filteredRssi = filter.filter(rssi);
+            if (filteredRssi != null) {
+                updateRSSI(filteredRssi);
+            } else if (getThing().getStatus() != ThingStatus.ONLINE) {
+                updateStatusBasedOnRssi(true);
+            }
         }
     }
 
@@ -268,6 +281,11 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     @Override
     public void onAdapterChanged(BluetoothAdapter adapter) {
+        RssiFilter filter = rssiFilter;
+        if (filter != null) {
+            // values of different adapters are not comparable
+            filter.reset();
+        }
         updateAdapter();
         updateAdapterLocation();
     }
@@ -99,4 +99,12 @@ public interface BluetoothAdapter extends Identifiable<ThingUID> {
      * @return true if this adapter has a {@link BluetoothDevice} with that address
      */
     boolean hasHandlerForDevice(BluetoothAddress address);
+
+    /**
+     * Creates the {@link RssiFilter} deciding which RSSI values of a device seen by this adapter are published.
+     * The filter is configured by this adapter and counts the RSSI values in the statistics of this adapter.
+     *
+     * @return a new {@link RssiFilter} for a single device
+     */
+    RssiFilter createRssiFilter();
 }
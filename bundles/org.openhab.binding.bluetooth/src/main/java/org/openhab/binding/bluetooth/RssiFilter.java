@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link RssiFilter} decides which of the RSSI values received with the advertisements of a device are published.
+ * Adapters deliver several advertisements per second for each device, which would otherwise flood the event bus with
+ * nearly identical updates.
+ *
+ * The published value is the median of the last received values. A new value is published only if the minimum
+ * update interval has passed and it differs from the last published one by at least the change threshold, or if the
+ * last published value has become too old.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RssiFilter {
+
+    // values are published regularly even if they did not change, so items can rely on receiving updates
+    private static final long MAX_UNCHANGED_INTERVAL = TimeUnit.SECONDS.toNanos(60);
+
+    private final int[] window;
+    private final long minUpdateInterval;
+    private final int changeThreshold;
+    private final Statistics statistics;
+
+    private int samples;
+    private int nextSample;
+    private @Nullable Integer lastPublished;
+    private long lastPublishTime;
+
+    /**
+     * @param config the configuration of the adapter the device is seen by
+     * @param statistics the statistics of the adapter the device is seen by
+     */
+    public RssiFilter(BaseBluetoothBridgeHandlerConfiguration config, Statistics statistics) {
+        this.window = new int[Math.max(1, config.rssiSmoothing)];
+        this.minUpdateInterval = TimeUnit.SECONDS.toNanos(Math.max(0, config.rssiUpdateInterval));
+        this.changeThreshold = Math.max(0, config.rssiChangeThreshold);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Adds a received RSSI value.
+     *
+     * @param rssi the received RSSI value in dBm
+     * @return the smoothed RSSI value to publish or null if nothing needs to be published
+     */
+    public synchronized @Nullable Integer filter(int rssi) {
+        statistics.received.incrementAndGet();
+        window[nextSample] = rssi;
+        nextSample = (nextSample + 1) % window.length;
+        samples = Math.min(samples + 1, window.length);
+
+        int smoothed = median();
+        long now = System.nanoTime();
+        Integer last = lastPublished;
+        if (last != null) {
+            long sinceLastPublish = now - lastPublishTime;
+            if (sinceLastPublish < minUpdateInterval) {
+                return null;
+            }
+            if (Math.abs(smoothed - last) < changeThreshold && sinceLastPublish < MAX_UNCHANGED_INTERVAL) {
+                return null;
+            }
+        }
+        lastPublished = smoothed;
+        lastPublishTime = now;
+        statistics.published.incrementAndGet();
+        return smoothed;
+    }
+
+    /**
+     * Forgets all received values, e.g. because the device is now seen by another adapter. The next value is
+     * published right away.
+     */
+    public synchronized void reset() {
+        samples = 0;
+        nextSample = 0;
+        lastPublished = null;
+    }
+
+    private int median() {
+        int[] sorted = Arrays.copyOf(window, samples);
+        Arrays.sort(sorted);
+        return sorted[samples / 2];
+    }
+
+    /**
+     * The {@link Statistics} count the RSSI values received and published for all devices of an adapter.
+     */
+    public static class Statistics {
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong published = new AtomicLong();
+
+        public long getReceived() {
+            return received.get();
+        }
+
+        public long getPublished() {
+            return published.get();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -70,19 +71,32 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
     private final BluetoothDeviceSnapshot device;
     private final Collection<BluetoothDiscoveryParticipant> participants;
     private final Set<BluetoothAdapter> adapters;
+    private final Semaphore connectionPermits;
+    private final @Nullable DiscoveryResultStore resultStore;
 
     private volatile boolean servicesDiscovered = false;
+    private boolean connectionEstablished = false;
 
     /**
      * Contains characteristic which reading is ongoing or null if no ongoing readings.
      */
     private volatile @Nullable GattCharacteristic ongoingGattCharacteristic;
 
+    /**
+     * @param device the device to discover
+     * @param participants the discovery participants
+     * @param adapters all adapters
+     * @param connectionPermits limits the number of devices connected to at the same time by the device's adapter
+     * @param resultStore the store of earlier connection based discoveries, if available
+     */
     public BluetoothDiscoveryProcess(BluetoothDeviceSnapshot device,
-            Collection<BluetoothDiscoveryParticipant> participants, Set<BluetoothAdapter> adapters) {
+            Collection<BluetoothDiscoveryParticipant> participants, Set<BluetoothAdapter> adapters,
+            Semaphore connectionPermits, @Nullable DiscoveryResultStore resultStore) {
         this.participants = participants;
         this.device = device;
         this.adapters = adapters;
+        this.connectionPermits = connectionPermits;
+        this.resultStore = resultStore;
     }
 
     @Override
@@ -110,18 +124,44 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
         // Since we couldn't find a result, lets try the connection based participants
         DiscoveryResult result = null;
         BluetoothAddress address = device.getAddress();
-        if (isAddressAvailable(address)) {
-            result = findConnectionResult(connectionParticipants);
-            // make sure to disconnect before letting go of the device
-            if (device.getConnectionState() == ConnectionState.CONNECTED) {
-                try {
-                    if (!device.disconnect()) {
-                        logger.debug("Failed to disconnect from device {}", address);
+        if (!connectionParticipants.isEmpty() && isAddressAvailable(address)) {
+            DiscoveryResultStore resultStore = this.resultStore;
+            String participantsKey = DiscoveryResultStore.participantsKey(connectionParticipants);
+            if (resultStore != null) {
+                result = resultStore.get(device, participantsKey);
+                if (result != null) {
+                    logger.debug("Using the stored discovery result for device {}", address);
+                    return result;
+                }
+            }
+            try {
+                connectionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createDefaultResult();
+            }
+            try {
+                result = findConnectionResult(connectionParticipants);
+                // make sure to disconnect before letting go of the device
+                if (device.getConnectionState() == ConnectionState.CONNECTED) {
+                    try {
+                        if (!device.disconnect()) {
+                            logger.debug("Failed to disconnect from device {}", address);
+                        }
+                    } catch (RuntimeException ex) {
+                        logger.warn("Error occurred during bluetooth discovery for device {} on adapter {}", address,
+                                device.getAdapter().getUID(), ex);
                     }
-                } catch (RuntimeException ex) {
-                    logger.warn("Error occurred during bluetooth discovery for device {} on adapter {}", address,
-                            device.getAdapter().getUID(), ex);
                 }
+            } finally {
+                connectionPermits.release();
+            }
+            // only a discovery that could talk to the device is worth remembering
+            if (connectionEstablished && resultStore != null) {
+                if (result == null) {
+                    result = createDefaultResult();
+                }
+                resultStore.put(device, participantsKey, result);
             }
         }
         if (result == null) {
@@ -193,6 +233,7 @@ public class BluetoothDiscoveryProcess implements Supplier<DiscoveryResult>, Blu
             readDeviceInformationIfMissing();
             logger.debug("Device information fetched from the device: {}", device);
         }
+        connectionEstablished = true;
     }
 
     private @Nullable DiscoveryResult findConnectionResult(List<BluetoothDiscoveryParticipant> connectionParticipants) {
@@ -15,11 +15,13 @@ package org.openhab.binding.bluetooth.discovery.internal;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Semaphore;
 import java.util.function.BiConsumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,6 +36,7 @@ import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.storage.StorageService;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.osgi.service.component.annotations.Activate;
@@ -60,6 +63,8 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     private final Logger logger = LoggerFactory.getLogger(BluetoothDiscoveryService.class);
 
     private static final int SEARCH_TIME = 15;
+    private static final String CONFIG_MAX_PARALLEL_CONNECTIONS = "maxParallelConnections";
+    private static final int DEFAULT_MAX_PARALLEL_CONNECTIONS = 2;
 
     private final Set<BluetoothAdapter> adapters = new CopyOnWriteArraySet<>();
     private final Set<BluetoothDiscoveryParticipant> participants = new CopyOnWriteArraySet<>();
@@ -68,6 +73,12 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
     private final Set<ThingTypeUID> supportedThingTypes = new CopyOnWriteArraySet<>();
 
+    // limits the number of devices each adapter connects to at the same time for discovery
+    private final Map<BluetoothAdapter, Semaphore> connectionPermits = new ConcurrentHashMap<>();
+    private volatile int maxParallelConnections = DEFAULT_MAX_PARALLEL_CONNECTIONS;
+
+    private volatile @Nullable DiscoveryResultStore resultStore;
+
     public BluetoothDiscoveryService() {
         super(SEARCH_TIME);
         supportedThingTypes.add(BluetoothBindingConstants.THING_TYPE_BEACON);
@@ -78,12 +89,33 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     protected void activate(@Nullable Map<String, Object> configProperties) {
         logger.debug("Activating Bluetooth discovery service");
         super.activate(configProperties);
+        applyConfig(configProperties);
     }
 
     @Override
     @Modified
     protected void modified(@Nullable Map<String, Object> configProperties) {
         super.modified(configProperties);
+        applyConfig(configProperties);
+    }
+
+    private void applyConfig(@Nullable Map<String, Object> configProperties) {
+        int maxParallelConnections = DEFAULT_MAX_PARALLEL_CONNECTIONS;
+        if (configProperties != null) {
+            Object value = configProperties.get(CONFIG_MAX_PARALLEL_CONNECTIONS);
+            if (value != null) {
+                try {
+                    maxParallelConnections = Math.max(1, Integer.parseInt(value.toString()));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid value '{}' for {}", value, CONFIG_MAX_PARALLEL_CONNECTIONS);
+                }
+            }
+        }
+        if (maxParallelConnections != this.maxParallelConnections) {
+            this.maxParallelConnections = maxParallelConnections;
+            // running discoveries release their permits to the old semaphores
+            connectionPermits.clear();
+        }
     }
 
     @Override
@@ -101,6 +133,17 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     protected void removeBluetoothAdapter(BluetoothAdapter adapter) {
         this.adapters.remove(adapter);
         adapter.removeDiscoveryListener(this);
+        connectionPermits.remove(adapter);
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setStorageService(StorageService storageService) {
+        resultStore = new DiscoveryResultStore(storageService.getStorage(DiscoveryResultStore.STORAGE_NAME,
+                DiscoveryResultStore.StoredResult.class.getClassLoader()));
+    }
+
+    protected void unsetStorageService(StorageService storageService) {
+        resultStore = null;
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -301,8 +344,10 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
         }
 
         private CompletableFuture<DiscoveryResult> startDiscoveryProcess(BluetoothDeviceSnapshot device) {
-            return CompletableFuture.supplyAsync(new BluetoothDiscoveryProcess(device, participants, adapters),
-                    scheduler);
+            Semaphore permits = Objects.requireNonNull(connectionPermits.computeIfAbsent(device.getAdapter(),
+                    adapter -> new Semaphore(maxParallelConnections)));
+            return CompletableFuture.supplyAsync(
+                    new BluetoothDiscoveryProcess(device, participants, adapters, permits, resultStore), scheduler);
         }
     }
 
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.discovery.internal;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.discovery.BluetoothDiscoveryParticipant;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link DiscoveryResultStore} persists the results of connection based discoveries, so that devices do not need
+ * to be connected to again after a restart.
+ *
+ * Results are stored per address and manufacturer id. A stored result is only used as long as the same connection
+ * based participants are installed, since another participant might recognize the device.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DiscoveryResultStore {
+
+    public static final String STORAGE_NAME = "bluetooth.discovery";
+
+    private static final long MAX_AGE = TimeUnit.DAYS.toMillis(30);
+
+    // property values are stored as strings, the parsers restore the values of other types
+    private static final Map<String, Function<String, Object>> PROPERTY_PARSERS = Map.of(BigDecimal.class.getName(),
+            BigDecimal::new, Boolean.class.getName(), Boolean::valueOf, Integer.class.getName(), Integer::valueOf,
+            Long.class.getName(), Long::valueOf, Double.class.getName(), Double::valueOf, Float.class.getName(),
+            Float::valueOf);
+
+    private final Storage<StoredResult> storage;
+
+    public DiscoveryResultStore(Storage<StoredResult> storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Creates the key identifying a set of participants.
+     *
+     * @param participants the connection based participants
+     * @return the key
+     */
+    public static String participantsKey(Collection<BluetoothDiscoveryParticipant> participants) {
+        return participants.stream().map(participant -> participant.getClass().getName()).sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String deviceKey(BluetoothDeviceSnapshot device) {
+        Integer manufacturer = device.getManufacturerId();
+        return device.getAddress() + "/" + (manufacturer == null ? "" : manufacturer);
+    }
+
+    /**
+     * Returns the stored result for the device. The device information read during the stored discovery is copied to
+     * the device.
+     *
+     * @param device the device to find a result for
+     * @param participantsKey the key of the current connection based participants
+     * @return the result or null if there is none or it is outdated
+     */
+    public @Nullable DiscoveryResult get(BluetoothDeviceSnapshot device, String participantsKey) {
+        String key = deviceKey(device);
+        StoredResult stored = storage.get(key);
+        if (stored == null) {
+            return null;
+        }
+        if (!participantsKey.equals(stored.participants)
+                || System.currentTimeMillis() - stored.timestamp > MAX_AGE) {
+            storage.remove(key);
+            return null;
+        }
+
+        String name = stored.name;
+        if (device.getName() == null && name != null) {
+            device.setName(name);
+        }
+        String model = stored.model;
+        if (device.getModel() == null && model != null) {
+            device.setModel(model);
+        }
+        String serialNumber = stored.serialNumber;
+        if (device.getSerialNumber() == null && serialNumber != null) {
+            device.setSerialNumberl(serialNumber);
+        }
+        String hardwareRevision = stored.hardwareRevision;
+        if (device.getHardwareRevision() == null && hardwareRevision != null) {
+            device.setHardwareRevision(hardwareRevision);
+        }
+        String firmwareRevision = stored.firmwareRevision;
+        if (device.getFirmwareRevision() == null && firmwareRevision != null) {
+            device.setFirmwareRevision(firmwareRevision);
+        }
+        String softwareRevision = stored.softwareRevision;
+        if (device.getSoftwareRevision() == null && softwareRevision != null) {
+            device.setSoftwareRevision(softwareRevision);
+        }
+
+        ThingUID adapterUID = device.getAdapter().getUID();
+        Map<String, Object> properties = new HashMap<>();
+        stored.properties
+                .forEach((key, value) -> properties.put(key, parseProperty(stored.propertyTypes.get(key), value)));
+        DiscoveryResultBuilder builder = DiscoveryResultBuilder
+                .create(new ThingUID(new ThingTypeUID(stored.thingTypeUID), adapterUID, stored.thingId))
+                .withBridge(adapterUID).withProperties(properties).withTTL(stored.ttl).withLabel(stored.label);
+        String representationProperty = stored.representationProperty;
+        if (representationProperty != null) {
+            builder = builder.withRepresentationProperty(representationProperty);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Stores the result of a connection based discovery.
+     *
+     * @param device the discovered device, including the information read from it
+     * @param participantsKey the key of the connection based participants
+     * @param result the result
+     */
+    public void put(BluetoothDeviceSnapshot device, String participantsKey, DiscoveryResult result) {
+        StoredResult stored = new StoredResult();
+        stored.thingTypeUID = result.getThingTypeUID().getAsString();
+        stored.thingId = result.getThingUID().getId();
+        stored.label = result.getLabel();
+        stored.representationProperty = result.getRepresentationProperty();
+        stored.ttl = result.getTimeToLive();
+        result.getProperties().forEach((key, value) -> {
+            stored.properties.put(key, value.toString());
+            String type = value.getClass().getName();
+            if (PROPERTY_PARSERS.containsKey(type)) {
+                stored.propertyTypes.put(key, type);
+            }
+        });
+        stored.name = device.getName();
+        stored.model = device.getModel();
+        stored.serialNumber = device.getSerialNumber();
+        stored.hardwareRevision = device.getHardwareRevision();
+        stored.firmwareRevision = device.getFirmwareRevision();
+        stored.softwareRevision = device.getSoftwareRevision();
+        stored.participants = participantsKey;
+        stored.timestamp = System.currentTimeMillis();
+        storage.put(deviceKey(device), stored);
+    }
+
+    /**
+     * Restores a property value with its original type. Values of types without a parser are restored as strings.
+     */
+    private static Object parseProperty(@Nullable String type, String value) {
+        @Nullable
+        Function<String, Object> parser = type == null ? null : PROPERTY_PARSERS.get(type);
+        if (parser != null) {
+            try {
+                return parser.apply(value);
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The persisted form of a discovery result.
+     */
+    public static class StoredResult {
+        public String thingTypeUID = "";
+        public String thingId = "";
+        public String label = "";
+        public @Nullable String representationProperty;
+        public long ttl = DiscoveryResult.TTL_UNLIMITED;
+        public Map<String, String> properties = new HashMap<>();
+        // the class names of the property values which are not strings
+        public Map<String, String> propertyTypes = new HashMap<>();
+        public @Nullable String name;
+        public @Nullable String model;
+        public @Nullable String serialNumber;
+        public @Nullable String hardwareRevision;
+        public @Nullable String firmwareRevision;
+        public @Nullable String softwareRevision;
+        public String participants = "";
+        public long timestamp;
+    }
+}
@@ -73,6 +73,11 @@ public class MockBluetoothAdapter implements BluetoothAdapter {
         return null;
     }
 
+    @Override
+    public RssiFilter createRssiFilter() {
+        return new RssiFilter(new BaseBluetoothBridgeHandlerConfiguration(), new RssiFilter.Statistics());
+    }
+
     @Override
     public @Nullable String getLabel() {
         return null;
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RssiFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RssiFilterTest {
+
+    private RssiFilter createFilter(int smoothing, int updateInterval, int changeThreshold,
+            RssiFilter.Statistics statistics) {
+        BaseBluetoothBridgeHandlerConfiguration config = new BaseBluetoothBridgeHandlerConfiguration();
+        config.rssiSmoothing = smoothing;
+        config.rssiUpdateInterval = updateInterval;
+        config.rssiChangeThreshold = changeThreshold;
+        return new RssiFilter(config, statistics);
+    }
+
+    @Test
+    public void testPassThrough() {
+        RssiFilter filter = createFilter(1, 0, 0, new RssiFilter.Statistics());
+        assertEquals(-60, filter.filter(-60));
+        assertEquals(-60, filter.filter(-60));
+        assertEquals(-75, filter.filter(-75));
+    }
+
+    @Test
+    public void testMedian() {
+        RssiFilter filter = createFilter(3, 0, 0, new RssiFilter.Statistics());
+        assertEquals(-60, filter.filter(-60));
+        assertEquals(-60, filter.filter(-90));
+        assertEquals(-61, filter.filter(-61));
+        // the oldest value drops out of the window
+        assertEquals(-90, filter.filter(-95));
+    }
+
+    @Test
+    public void testChangeThreshold() {
+        RssiFilter filter = createFilter(1, 0, 3, new RssiFilter.Statistics());
+        assertEquals(-60, filter.filter(-60));
+        assertNull(filter.filter(-62));
+        assertNull(filter.filter(-58));
+        assertEquals(-63, filter.filter(-63));
+    }
+
+    @Test
+    public void testUpdateInterval() {
+        RssiFilter filter = createFilter(1, 60, 0, new RssiFilter.Statistics());
+        assertEquals(-60, filter.filter(-60));
+        assertNull(filter.filter(-80));
+        filter.reset();
+        assertEquals(-80, filter.filter(-80));
+    }
+
+    @Test
+    public void testStatistics() {
+        RssiFilter.Statistics statistics = new RssiFilter.Statistics();
+        RssiFilter first = createFilter(1, 60, 0, statistics);
+        RssiFilter second = createFilter(1, 60, 0, statistics);
+        first.filter(-60);
+        first.filter(-61);
+        second.filter(-70);
+        assertEquals(3, statistics.getReceived());
+        assertEquals(2, statistics.getPublished());
+    }
+}
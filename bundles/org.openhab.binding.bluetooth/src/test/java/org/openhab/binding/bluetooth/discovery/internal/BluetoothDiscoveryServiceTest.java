@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -353,6 +354,31 @@ public class BluetoothDiscoveryServiceTest {
                         .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
     }
 
+    @Test
+    public void connectionLimitPerAdapterTest() {
+        Mockito.doReturn(true).when(participant1).requiresConnection(ArgumentMatchers.any());
+        discoveryService.modified(Map.of("maxParallelConnections", 1));
+
+        BluetoothAdapter mockAdapter1 = new MockBluetoothAdapter();
+        BluetoothAdapter mockAdapter2 = new MockBluetoothAdapter();
+        AtomicInteger connections1 = new AtomicInteger();
+        AtomicInteger maxConnections1 = new AtomicInteger();
+        AtomicInteger connections2 = new AtomicInteger();
+        AtomicInteger maxConnections2 = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            discoveryService.deviceDiscovered(new CountingConnectionDevice(mockAdapter1, TestUtils.randomAddress(),
+                    connections1, maxConnections1));
+            discoveryService.deviceDiscovered(new CountingConnectionDevice(mockAdapter2, TestUtils.randomAddress(),
+                    connections2, maxConnections2));
+        }
+
+        Mockito.verify(mockDiscoveryListener, Mockito.timeout(TIMEOUT).times(6))
+                .thingDiscovered(ArgumentMatchers.same(discoveryService), ArgumentMatchers
+                        .argThat(arg -> arg.getThingTypeUID().equals(BluetoothBindingConstants.THING_TYPE_BEACON)));
+        assertEquals(1, maxConnections1.get());
+        assertEquals(1, maxConnections2.get());
+    }
+
     @Test
     public void replaceOlderDiscoveryTest() {
         Mockito.doReturn(null).when(participant1).createResult(ArgumentMatchers.any());
@@ -587,4 +613,29 @@ public class BluetoothDiscoveryServiceTest {
             return false;
         }
     }
+
+    private class CountingConnectionDevice extends MockBluetoothDevice {
+
+        private final AtomicInteger connections;
+        private final AtomicInteger maxConnections;
+
+        public CountingConnectionDevice(BluetoothAdapter adapter, BluetoothAddress address, AtomicInteger connections,
+                AtomicInteger maxConnections) {
+            super(adapter, address);
+            this.connections = connections;
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        public boolean connect() {
+            maxConnections.accumulateAndGet(connections.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                // do nothing
+            }
+            connections.decrementAndGet();
+            return false;
+        }
+    }
 }
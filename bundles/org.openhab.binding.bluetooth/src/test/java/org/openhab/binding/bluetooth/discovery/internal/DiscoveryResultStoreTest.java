@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.discovery.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.BluetoothBindingConstants;
+import org.openhab.binding.bluetooth.MockBluetoothAdapter;
+import org.openhab.binding.bluetooth.TestUtils;
+import org.openhab.binding.bluetooth.discovery.internal.DiscoveryResultStore.StoredResult;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * Tests {@link DiscoveryResultStore}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class DiscoveryResultStoreTest {
+
+    private static final String PARTICIPANTS = "org.example.Participant";
+
+    private @Mock @NonNullByDefault({}) Storage<StoredResult> storage;
+
+    private final MockBluetoothAdapter adapter1 = new MockBluetoothAdapter();
+    private final MockBluetoothAdapter adapter2 = new MockBluetoothAdapter();
+    private final BluetoothAddress address = TestUtils.randomAddress();
+
+    @Test
+    public void propertiesKeepTheirTypes() {
+        UUID uuid = UUID.randomUUID();
+        DiscoveryResult result = createResult(adapter1, Map.of("string", "value", "decimal", new BigDecimal("1.5"),
+                "integer", 3, "boolean", true, "double", 2.25, "other", uuid));
+
+        DiscoveryResult restored = store(result, new BluetoothDeviceSnapshot(adapter1.getDevice(address)));
+
+        Map<String, Object> properties = restored.getProperties();
+        assertEquals("value", properties.get("string"));
+        assertEquals(new BigDecimal("1.5"), properties.get("decimal"));
+        assertEquals(Integer.valueOf(3), properties.get("integer"));
+        assertEquals(Boolean.TRUE, properties.get("boolean"));
+        assertEquals(Double.valueOf(2.25), properties.get("double"));
+        // values of other types are restored as strings
+        assertEquals(uuid.toString(), properties.get("other"));
+        assertEquals(7, properties.size());
+    }
+
+    @Test
+    public void resultIsRestoredForAnotherAdapter() {
+        DiscoveryResult result = createResult(adapter1, Map.of("string", "value"));
+
+        DiscoveryResult restored = store(result, new BluetoothDeviceSnapshot(adapter2.getDevice(address)));
+
+        assertEquals(adapter2.getUID(), restored.getBridgeUID());
+        assertEquals(result.getThingTypeUID(), restored.getThingTypeUID());
+        assertEquals(result.getThingUID().getId(), restored.getThingUID().getId());
+        assertEquals(result.getLabel(), restored.getLabel());
+        assertEquals(result.getRepresentationProperty(), restored.getRepresentationProperty());
+        assertEquals(result.getTimeToLive(), restored.getTimeToLive());
+    }
+
+    @Test
+    public void deviceInformationIsRestored() {
+        BluetoothDeviceSnapshot device = new BluetoothDeviceSnapshot(adapter1.getDevice(address));
+        device.setName("sensor");
+        device.setModel("model");
+        device.setFirmwareRevision("1.0");
+
+        BluetoothDeviceSnapshot restoredDevice = new BluetoothDeviceSnapshot(adapter1.getDevice(address));
+        DiscoveryResultStore store = new DiscoveryResultStore(storage);
+        store.put(device, PARTICIPANTS, createResult(adapter1, Map.of()));
+        Mockito.when(storage.get(ArgumentMatchers.anyString())).thenReturn(captureStoredResult());
+        assertNotNull(store.get(restoredDevice, PARTICIPANTS));
+
+        assertEquals("sensor", restoredDevice.getName());
+        assertEquals("model", restoredDevice.getModel());
+        assertEquals("1.0", restoredDevice.getFirmwareRevision());
+        assertNull(restoredDevice.getSerialNumber());
+    }
+
+    @Test
+    public void resultOfOtherParticipantsIsRemoved() {
+        BluetoothDeviceSnapshot device = new BluetoothDeviceSnapshot(adapter1.getDevice(address));
+        DiscoveryResultStore store = new DiscoveryResultStore(storage);
+        store.put(device, PARTICIPANTS, createResult(adapter1, Map.of()));
+        Mockito.when(storage.get(ArgumentMatchers.anyString())).thenReturn(captureStoredResult());
+
+        assertNull(store.get(device, PARTICIPANTS + ",org.example.OtherParticipant"));
+        Mockito.verify(storage).remove(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    public void missingResult() {
+        DiscoveryResultStore store = new DiscoveryResultStore(storage);
+
+        assertNull(store.get(new BluetoothDeviceSnapshot(adapter1.getDevice(address)), PARTICIPANTS));
+    }
+
+    /**
+     * Stores the result and returns it as restored for the given device.
+     */
+    private DiscoveryResult store(DiscoveryResult result, BluetoothDeviceSnapshot device) {
+        DiscoveryResultStore store = new DiscoveryResultStore(storage);
+        store.put(new BluetoothDeviceSnapshot(adapter1.getDevice(address)), PARTICIPANTS, result);
+        Mockito.when(storage.get(ArgumentMatchers.anyString())).thenReturn(captureStoredResult());
+
+        DiscoveryResult restored = store.get(device, PARTICIPANTS);
+        if (restored == null) {
+            throw new AssertionError("The stored result was not restored");
+        }
+        return restored;
+    }
+
+    private @Nullable StoredResult captureStoredResult() {
+        ArgumentCaptor<StoredResult> captor = ArgumentCaptor.forClass(StoredResult.class);
+        Mockito.verify(storage).put(ArgumentMatchers.anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private DiscoveryResult createResult(MockBluetoothAdapter adapter, Map<String, Object> properties) {
+        ThingUID thingUID = new ThingUID(BluetoothBindingConstants.THING_TYPE_BEACON, adapter.getUID(),
+                address.toString().toLowerCase().replace(":", ""));
+        return DiscoveryResultBuilder.create(thingUID).withBridge(adapter.getUID()).withProperties(properties)
+                .withProperty(BluetoothBindingConstants.CONFIGURATION_ADDRESS, address.toString())
+                .withRepresentationProperty(BluetoothBindingConstants.CONFIGURATION_ADDRESS).withTTL(300)
+                .withLabel("Bluetooth Device").build();
+    }
+}
@@ -13,9 +13,14 @@
 package org.openhab.binding.deconz.internal.netutils;
 
 import java.net.URI;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
@@ -28,21 +33,32 @@ import org.eclipse.jetty.websocket.api.annotations.WebSocket;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
 import org.openhab.binding.deconz.internal.types.ResourceType;
+import org.openhab.core.common.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
  *
  * The connection is closed by deCONZ now and then and needs to be re-established.
  *
+ * Each message is parsed only once: the resource type and id are read from the parsed JSON tree, which is then bound
+ * to the message type of the resource. Messages are passed to the listeners by a single thread, so they are processed
+ * in the order of arrival without blocking the websocket thread. If the listeners fall behind, the websocket thread
+ * waits for free space in the queue instead of dropping messages.
+ *
  * @author David Graeff - Initial contribution
  */
 @WebSocket
 @NonNullByDefault
 public class WebSocketConnection {
+    private static final int MAX_QUEUED_MESSAGES = 500;
+
     private final Logger logger = LoggerFactory.getLogger(WebSocketConnection.class);
 
     private final WebSocketClient client;
@@ -51,6 +67,9 @@ public class WebSocketConnection {
 
     private final WebSocketConnectionListener connectionListener;
     private final Map<Map.Entry<ResourceType, String>, WebSocketMessageListener> listeners = new ConcurrentHashMap<>();
+    // recreated when the connection is started again after it was closed
+    private volatile ThreadPoolExecutor dispatcher;
+    private final MessageStatistics statistics = new MessageStatistics();
 
     private ConnectionState connectionState = ConnectionState.DISCONNECTED;
 
@@ -60,6 +79,23 @@ public class WebSocketConnection {
         this.client.setMaxIdleTimeout(0);
         this.gson = gson;
         this.socketName = ((QueuedThreadPool) client.getExecutor()).getName() + "$" + this.hashCode();
+        this.dispatcher = createDispatcher();
+    }
+
+    private ThreadPoolExecutor createDispatcher() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_MESSAGES),
+                new NamedThreadFactory(socketName, true), (runnable, executor) -> {
+                    // wait for the listeners instead of dropping messages, the order is kept as only the websocket
+                    // thread adds messages
+                    try {
+                        if (!executor.isShutdown()) {
+                            executor.getQueue().put(runnable);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(e);
+                    }
+                });
     }
 
     public void start(String ip) {
@@ -69,6 +105,9 @@ public class WebSocketConnection {
             logger.debug("{} already connecting", socketName);
             return;
         }
+        if (dispatcher.isShutdown()) {
+            dispatcher = createDispatcher();
+        }
         try {
             URI destUri = URI.create("ws://" + ip);
             client.start();
@@ -87,6 +126,25 @@ public class WebSocketConnection {
             logger.debug("{} encountered an error while closing connection", socketName, e);
         }
         client.destroy();
+        dispatcher.shutdownNow();
+        if (logger.isDebugEnabled()) {
+            for (ResourceType resourceType : ResourceType.values()) {
+                long messages = statistics.getMessages(resourceType);
+                if (messages > 0) {
+                    logger.debug("{} received {} {} messages ({} per minute)", socketName, messages,
+                            resourceType.getIdentifier(), String.format("%.1f", statistics.getRate(resourceType)));
+                }
+            }
+        }
+    }
+
+    /**
+     * get the statistics of the received messages
+     *
+     * @return the statistics
+     */
+    public MessageStatistics getStatistics() {
+        return statistics;
     }
 
     public void registerListener(ResourceType resourceType, String sensorID, WebSocketMessageListener listener) {
@@ -110,33 +168,65 @@ public class WebSocketConnection {
     public void onMessage(String message) {
         logger.trace("Raw data received by websocket {}: {}", socketName, message);
 
-        DeconzBaseMessage changedMessage = Objects.requireNonNull(gson.fromJson(message, DeconzBaseMessage.class));
-        if (changedMessage.r == ResourceType.UNKNOWN) {
+        JsonObject json;
+        try {
+            json = gson.fromJson(message, JsonObject.class);
+        } catch (JsonParseException e) {
+            logger.debug("Received message could not be parsed. Skipping message.", e);
+            return;
+        }
+        if (json == null) {
+            return;
+        }
+
+        String r = getString(json, "r");
+        ResourceType resourceType = r.isEmpty() ? ResourceType.UNKNOWN : ResourceType.fromString(r);
+        statistics.messageReceived(resourceType);
+        if (resourceType == ResourceType.UNKNOWN) {
             logger.trace("Received message has unknown resource type. Skipping message.");
             return;
         }
 
-        WebSocketMessageListener listener = listeners.get(Map.entry(changedMessage.r, changedMessage.id));
+        String id = getString(json, "id");
+        WebSocketMessageListener listener = listeners.get(Map.entry(resourceType, id));
         if (listener == null) {
             logger.debug(
                     "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
-                    changedMessage.id, changedMessage.r);
+                    id, resourceType);
             return;
         }
 
-        Class<? extends DeconzBaseMessage> expectedMessageType = changedMessage.r.getExpectedMessageType();
+        Class<? extends DeconzBaseMessage> expectedMessageType = resourceType.getExpectedMessageType();
         if (expectedMessageType == null) {
             logger.warn("BUG! Could not get expected message type for resource type {}. Please report this incident.",
-                    changedMessage.r);
+                    resourceType);
             return;
         }
 
-        DeconzBaseMessage deconzMessage = gson.fromJson(message, expectedMessageType);
-        if (deconzMessage != null) {
-            listener.messageReceived(changedMessage.id, deconzMessage);
+        try {
+            dispatcher.execute(() -> dispatchMessage(json, id, expectedMessageType, listener));
+        } catch (RejectedExecutionException e) {
+            logger.debug("{} is closed, skipping message", socketName);
+        }
+    }
+
+    private void dispatchMessage(JsonObject json, String id, Class<? extends DeconzBaseMessage> expectedMessageType,
+            WebSocketMessageListener listener) {
+        try {
+            DeconzBaseMessage deconzMessage = gson.fromJson(json, expectedMessageType);
+            if (deconzMessage != null) {
+                listener.messageReceived(id, deconzMessage);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Processing of message for id {} failed", id, e);
         }
     }
 
+    private static String getString(JsonObject json, String member) {
+        JsonElement element = json.get(member);
+        return (element != null && element.isJsonPrimitive()) ? element.getAsString() : "";
+    }
+
     @SuppressWarnings("unused")
     @OnWebSocketError
     public void onError(Throwable cause) {
@@ -160,6 +250,49 @@ public class WebSocketConnection {
         return connectionState == ConnectionState.CONNECTED;
     }
 
+    /**
+     * counts the received messages per resource type
+     */
+    public static class MessageStatistics {
+        private final Map<ResourceType, AtomicLong> messages = new EnumMap<>(ResourceType.class);
+        private final long startTime = System.nanoTime();
+
+        MessageStatistics() {
+            for (ResourceType resourceType : ResourceType.values()) {
+                messages.put(resourceType, new AtomicLong());
+            }
+        }
+
+        void messageReceived(ResourceType resourceType) {
+            AtomicLong counter = messages.get(resourceType);
+            if (counter != null) {
+                counter.incrementAndGet();
+            }
+        }
+
+        /**
+         * get the number of received messages
+         *
+         * @param resourceType the resource type of the messages
+         * @return the number of messages since the connection was created
+         */
+        public long getMessages(ResourceType resourceType) {
+            AtomicLong counter = messages.get(resourceType);
+            return counter != null ? counter.get() : 0;
+        }
+
+        /**
+         * get the average message rate
+         *
+         * @param resourceType the resource type of the messages
+         * @return the number of messages per minute since the connection was created
+         */
+        public double getRate(ResourceType resourceType) {
+            double minutes = (System.nanoTime() - startTime) / (double) TimeUnit.MINUTES.toNanos(1);
+            return minutes > 0 ? getMessages(resourceType) / minutes : 0;
+        }
+    }
+
     /**
      * used internally to represent the connection state
      */
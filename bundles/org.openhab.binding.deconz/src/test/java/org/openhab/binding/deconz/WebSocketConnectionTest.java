@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.dto.SensorState;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnection;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnectionListener;
+import org.openhab.binding.deconz.internal.netutils.WebSocketMessageListener;
+import org.openhab.binding.deconz.internal.types.LightType;
+import org.openhab.binding.deconz.internal.types.LightTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ResourceType;
+import org.openhab.binding.deconz.internal.types.ResourceTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ThermostatMode;
+import org.openhab.binding.deconz.internal.types.ThermostatModeGsonTypeAdapter;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * This class provides tests for the message decoding of the deconz websocket connection
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class WebSocketConnectionTest {
+    private @Mock @NonNullByDefault({}) WebSocketConnectionListener connectionListener;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener messageListener;
+    private @Mock @NonNullByDefault({}) WebSocketClient webSocketClient;
+
+    private @NonNullByDefault({}) WebSocketConnection connection;
+
+    @BeforeEach
+    public void initialize() {
+        Mockito.doReturn(new QueuedThreadPool()).when(webSocketClient).getExecutor();
+
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.registerTypeAdapter(LightType.class, new LightTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ResourceType.class, new ResourceTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ThermostatMode.class, new ThermostatModeGsonTypeAdapter());
+        Gson gson = gsonBuilder.create();
+
+        connection = new WebSocketConnection(connectionListener, webSocketClient, gson);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connection.close();
+    }
+
+    @Test
+    public void sensorMessageTest() {
+        connection.registerListener(ResourceType.SENSORS, "3", messageListener);
+
+        connection.onMessage(
+                "{\"e\":\"changed\",\"id\":\"3\",\"r\":\"sensors\",\"state\":{\"buttonevent\":1002},\"t\":\"event\"}");
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        Mockito.verify(messageListener, Mockito.timeout(1000)).messageReceived(eq("3"), captor.capture());
+        DeconzBaseMessage message = captor.getValue();
+        assertTrue(message instanceof SensorMessage);
+        assertEquals(ResourceType.SENSORS, message.r);
+        SensorState state = ((SensorMessage) message).state;
+        assertNotNull(state);
+        assertEquals(Integer.valueOf(1002), state.buttonevent);
+        assertEquals(1, connection.getStatistics().getMessages(ResourceType.SENSORS));
+    }
+
+    @Test
+    public void messageOrderTest() {
+        connection.registerListener(ResourceType.SENSORS, "3", messageListener);
+
+        for (int i = 1; i <= 100; i++) {
+            connection.onMessage("{\"e\":\"changed\",\"id\":\"3\",\"r\":\"sensors\",\"state\":{\"buttonevent\":" + i
+                    + "},\"t\":\"event\"}");
+        }
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        Mockito.verify(messageListener, Mockito.timeout(1000).times(100)).messageReceived(eq("3"), captor.capture());
+        for (int i = 0; i < 100; i++) {
+            SensorState state = ((SensorMessage) captor.getAllValues().get(i)).state;
+            assertNotNull(state);
+            assertEquals(Integer.valueOf(i + 1), state.buttonevent);
+        }
+    }
+
+    @Test
+    public void unknownResourceTest() {
+        connection.registerListener(ResourceType.LIGHTS, "3", messageListener);
+
+        connection.onMessage("{\"e\":\"changed\",\"id\":\"3\",\"r\":\"sensors\",\"state\":{},\"t\":\"event\"}");
+        connection.onMessage("{\"e\":\"changed\",\"id\":\"3\",\"r\":\"scenes\",\"t\":\"event\"}");
+
+        Mockito.verify(messageListener, Mockito.after(200).never()).messageReceived(anyString(), any());
+        assertEquals(1, connection.getStatistics().getMessages(ResourceType.SENSORS));
+        assertEquals(1, connection.getStatistics().getMessages(ResourceType.UNKNOWN));
+    }
+
+    @Test
+    public void restartTest() {
+        Mockito.doReturn(CompletableFuture.completedFuture(null)).when(webSocketClient).connect(any(),
+                any(URI.class));
+        connection.registerListener(ResourceType.SENSORS, "3", messageListener);
+
+        connection.close();
+        connection.start("localhost:8088");
+        connection.onMessage(
+                "{\"e\":\"changed\",\"id\":\"3\",\"r\":\"sensors\",\"state\":{\"buttonevent\":1002},\"t\":\"event\"}");
+
+        Mockito.verify(messageListener, Mockito.timeout(1000)).messageReceived(eq("3"), any());
+    }
+}
@@ -80,6 +80,7 @@ public class HttpThingHandler extends BaseThingHandler {
     private HttpClient httpClient;
     private RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
@@ -89,13 +90,16 @@ public class HttpThingHandler extends BaseThingHandler {
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             ValueTransformationProvider valueTransformationProvider,
-            HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider) {
+            HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
+            RefreshingUrlCacheRegistry urlCacheRegistry, HostRateLimiterRegistry rateLimiterRegistry) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.httpClient = httpClientProvider.getSecureClient();
-        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler, rateLimiterRegistry,
+                thing.getUID());
         this.valueTransformationProvider = valueTransformationProvider;
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
+        this.urlCacheRegistry = urlCacheRegistry;
     }
 
     @Override
@@ -147,12 +151,17 @@ public class HttpThingHandler extends BaseThingHandler {
             httpClient = httpClientProvider.getSecureClient();
         }
         rateLimitedHttpClient.setHttpClient(httpClient);
-        rateLimitedHttpClient.setDelay(config.delay);
+        try {
+            rateLimitedHttpClient.setRateLimit(config.delay, config.burstSize, config.maxConcurrentRequests);
+        } catch (IllegalArgumentException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return;
+        }
 
         int channelCount = thing.getChannels().size();
-        if (channelCount * config.delay > config.refresh * 1000) {
+        if ((channelCount - config.burstSize) * config.delay > config.refresh * 1000) {
             // this should prevent the rate limit queue from filling up
-            config.refresh = (channelCount * config.delay) / 1000 + 1;
+            config.refresh = ((channelCount - config.burstSize) * config.delay) / 1000 + 1;
             logger.warn(
                     "{} channels in thing {} with a delay of {} incompatible with the configured refresh time. Refresh-Time increased to the minimum of {}",
                     channelCount, thing.getUID(), config.delay, config.refresh);
@@ -197,7 +206,7 @@ public class HttpThingHandler extends BaseThingHandler {
     @Override
     public void dispose() {
         // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        urlHandlers.values().forEach(cache -> urlCacheRegistry.unsubscribe(cache, thing.getUID()));
         rateLimitedHttpClient.shutdown();
 
         // clear lists
@@ -278,10 +287,8 @@ public class HttpThingHandler extends BaseThingHandler {
         channels.put(channelUID, itemValueConverter);
         if (channelConfig.mode != HttpChannelMode.WRITEONLY) {
             channelUrls.put(channelUID, stateUrl);
-            urlHandlers
-                    .computeIfAbsent(stateUrl,
-                            url -> new RefreshingUrlCache(scheduler, rateLimitedHttpClient, url, config))
-                    .addConsumer(itemValueConverter::process);
+            urlHandlers.put(stateUrl, urlCacheRegistry.subscribe(scheduler, stateUrl, config, thing.getUID(),
+                    rateLimitedHttpClient, itemValueConverter::process));
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
@@ -28,10 +28,19 @@ public class Content {
     private final byte[] rawContent;
     private final Charset encoding;
     private final @Nullable String mediaType;
+    private final @Nullable String eTag;
+    private final @Nullable String lastModified;
 
     public Content(byte[] rawContent, String encoding, @Nullable String mediaType) {
+        this(rawContent, encoding, mediaType, null, null);
+    }
+
+    public Content(byte[] rawContent, String encoding, @Nullable String mediaType, @Nullable String eTag,
+            @Nullable String lastModified) {
         this.rawContent = rawContent;
         this.mediaType = mediaType;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
 
         Charset finalEncoding = StandardCharsets.UTF_8;
         try {
@@ -52,4 +61,22 @@ public class Content {
     public @Nullable String getMediaType() {
         return mediaType;
     }
+
+    /**
+     * get the value of the ETag header of the response
+     *
+     * @return the entity tag or null if the server did not send one
+     */
+    public @Nullable String getETag() {
+        return eTag;
+    }
+
+    /**
+     * get the value of the Last-Modified header of the response
+     *
+     * @return the last modification date or null if the server did not send one
+     */
+    public @Nullable String getLastModified() {
+        return lastModified;
+    }
 }
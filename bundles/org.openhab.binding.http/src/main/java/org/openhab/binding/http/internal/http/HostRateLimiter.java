@@ -0,0 +1,320 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.openhab.core.thing.ThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link HostRateLimiter} limits the requests to a single host by a token bucket (burst size and sustained rate)
+ * and a maximum number of requests in flight. It is shared by all things sending requests to that host.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HostRateLimiter {
+    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+
+    private final Logger logger = LoggerFactory.getLogger(HostRateLimiter.class);
+    private final String host;
+    private final ScheduledExecutorService scheduler;
+    private final Map<ThingUID, RateLimit> rateLimits = new ConcurrentHashMap<>();
+    private final Queue<RequestQueueEntry> requestQueue = new ArrayDeque<>();
+
+    // effective limits, the most restrictive of all registered things
+    private int delay = 0; // in ms between two tokens, 0 = no rate limit
+    private int burstSize = 1;
+    private int maxConcurrentRequests = 0; // 0 = unlimited
+
+    private double tokens = 0;
+    private long lastRefill = System.nanoTime();
+    private int requestsInFlight = 0;
+    private @Nullable ScheduledFuture<?> processJob;
+
+    private long requestCount = 0;
+    private long queuedRequestCount = 0;
+    private long totalQueueWaitTime = 0; // in ms
+    private long maxQueueWaitTime = 0; // in ms
+
+    public HostRateLimiter(String host, ScheduledExecutorService scheduler) {
+        this.host = host;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Set the rate limit requested by a thing. The most restrictive rate limit of all things is applied.
+     *
+     * @param owner the thing
+     * @param rateLimit the rate limit requested by this thing
+     */
+    public void setRateLimit(ThingUID owner, RateLimit rateLimit) {
+        if (rateLimits.put(owner, rateLimit) != rateLimit) {
+            updateRateLimit();
+        }
+    }
+
+    /**
+     * Remove a thing from this limiter and cancel all its queued requests
+     *
+     * @param owner the thing
+     * @return true if no things are left
+     */
+    public boolean removeRateLimit(ThingUID owner) {
+        if (rateLimits.remove(owner) == null) {
+            return rateLimits.isEmpty();
+        }
+        List<RequestQueueEntry> cancelledEntries = new ArrayList<>();
+        synchronized (this) {
+            Iterator<RequestQueueEntry> iterator = requestQueue.iterator();
+            while (iterator.hasNext()) {
+                RequestQueueEntry queueEntry = iterator.next();
+                if (queueEntry.owner.equals(owner)) {
+                    iterator.remove();
+                    cancelledEntries.add(queueEntry);
+                }
+            }
+        }
+        cancelledEntries.forEach(queueEntry -> queueEntry.future.completeExceptionally(new CancellationException()));
+        if (rateLimits.isEmpty()) {
+            stopProcessJob();
+            logger.debug(
+                    "Statistics for host '{}': {} requests, {} queued, average queue wait time {} ms, maximum queue wait time {} ms",
+                    host, requestCount, queuedRequestCount, getAverageQueueWaitTime(), maxQueueWaitTime);
+            return true;
+        }
+        updateRateLimit();
+        return false;
+    }
+
+    /**
+     * Create and send a new request respecting the limits of this host
+     *
+     * The sender is called as soon as the limits allow the request and has to send it. The request occupies a slot
+     * until it completes. If the sender fails or does not send the request, the slot is released immediately.
+     *
+     * @param owner the thing requesting
+     * @param httpClient the Jetty client to create the request with
+     * @param finalUrl the request URL
+     * @param sender prepares and sends the request
+     * @return a CompletableFuture that completes after the sender was called
+     */
+    public CompletableFuture<@Nullable Void> newRequest(ThingUID owner, HttpClient httpClient, URI finalUrl,
+            Consumer<Request> sender) {
+        CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (requestQueue.size() >= MAX_QUEUE_SIZE) {
+                future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
+                return future;
+            }
+            requestQueue.add(new RequestQueueEntry(owner, httpClient, finalUrl, sender, future));
+        }
+        processQueue();
+        return future;
+    }
+
+    /**
+     * @return the number of requests sent to this host
+     */
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the number of requests that had to wait for a token or a free slot
+     */
+    public synchronized long getQueuedRequestCount() {
+        return queuedRequestCount;
+    }
+
+    /**
+     * @return the average time in ms a request waited in the queue
+     */
+    public synchronized long getAverageQueueWaitTime() {
+        return requestCount == 0 ? 0 : totalQueueWaitTime / requestCount;
+    }
+
+    /**
+     * @return the maximum time in ms a request waited in the queue
+     */
+    public synchronized long getMaxQueueWaitTime() {
+        return maxQueueWaitTime;
+    }
+
+    /**
+     * @return the number of requests waiting in the queue
+     */
+    public synchronized int getQueueSize() {
+        return requestQueue.size();
+    }
+
+    private synchronized void updateRateLimit() {
+        delay = rateLimits.values().stream().mapToInt(rateLimit -> rateLimit.delay).max().orElse(0);
+        burstSize = Math.max(1,
+                rateLimits.values().stream().mapToInt(rateLimit -> rateLimit.burstSize).min().orElse(1));
+        maxConcurrentRequests = rateLimits.values().stream().mapToInt(rateLimit -> rateLimit.maxConcurrentRequests)
+                .filter(max -> max > 0).min().orElse(0);
+        // a new limiter starts with a full bucket
+        tokens = rateLimits.size() == 1 && requestCount == 0 ? burstSize : Math.min(tokens, burstSize);
+        logger.debug("Rate limit for host '{}': delay={}ms, burstSize={}, maxConcurrentRequests={}", host, delay,
+                burstSize, maxConcurrentRequests);
+    }
+
+    private void processQueue() {
+        List<RequestQueueEntry> processedEntries = new ArrayList<>();
+        synchronized (this) {
+            stopProcessJob();
+            refillTokens();
+            while (!requestQueue.isEmpty() && (maxConcurrentRequests == 0 || requestsInFlight < maxConcurrentRequests)
+                    && (delay == 0 || tokens >= 1)) {
+                RequestQueueEntry queueEntry = requestQueue.poll();
+                if (delay != 0) {
+                    tokens -= 1;
+                }
+                requestsInFlight++;
+                long waitTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queueEntry.queueTime);
+                requestCount++;
+                if (waitTime > 0) {
+                    queuedRequestCount++;
+                }
+                totalQueueWaitTime += waitTime;
+                maxQueueWaitTime = Math.max(maxQueueWaitTime, waitTime);
+                processedEntries.add(queueEntry);
+            }
+            if (!requestQueue.isEmpty() && delay != 0 && tokens < 1
+                    && (maxConcurrentRequests == 0 || requestsInFlight < maxConcurrentRequests)) {
+                // wait for the next token, completion of a request re-triggers processing anyway
+                long nextToken = (long) Math.ceil((1 - tokens) * delay);
+                processJob = scheduler.schedule(this::processQueue, nextToken, TimeUnit.MILLISECONDS);
+            }
+        }
+        // send outside the lock, the requests may be sent (and even fail) synchronously
+        processedEntries.forEach(this::sendRequest);
+    }
+
+    private void sendRequest(RequestQueueEntry queueEntry) {
+        if (queueEntry.future.isDone()) {
+            // cancelled by the caller
+            requestCompleted();
+            return;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (released.compareAndSet(false, true)) {
+                requestCompleted();
+            }
+        };
+        AtomicBoolean queued = new AtomicBoolean();
+        Request request = queueEntry.httpClient.newRequest(queueEntry.finalUrl);
+        request.onRequestQueued(r -> queued.set(true));
+        request.onComplete(result -> releaseSlot.run());
+        try {
+            queueEntry.sender.accept(request);
+        } catch (RuntimeException e) {
+            releaseSlot.run();
+            queueEntry.future.completeExceptionally(e);
+            return;
+        }
+        if (!queued.get()) {
+            // the request was not sent and will never complete
+            logger.debug("Request to '{}' was not sent", queueEntry.finalUrl);
+            releaseSlot.run();
+        }
+        queueEntry.future.complete(null);
+    }
+
+    private synchronized void refillTokens() {
+        long now = System.nanoTime();
+        if (delay != 0) {
+            tokens = Math.min(burstSize, tokens + (now - lastRefill) / (delay * 1000000.0));
+        }
+        lastRefill = now;
+    }
+
+    private void requestCompleted() {
+        synchronized (this) {
+            requestsInFlight = Math.max(0, requestsInFlight - 1);
+            if (requestQueue.isEmpty() || processJob != null) {
+                return;
+            }
+        }
+        processQueue();
+    }
+
+    private synchronized void stopProcessJob() {
+        ScheduledFuture<?> processJob = this.processJob;
+        if (processJob != null) {
+            processJob.cancel(false);
+            this.processJob = null;
+        }
+    }
+
+    /**
+     * The {@link RateLimit} contains the limits requested by a single thing
+     */
+    public static class RateLimit {
+        public final int delay;
+        public final int burstSize;
+        public final int maxConcurrentRequests;
+
+        /**
+         * @param delay time between two tokens in ms (0 = no rate limit)
+         * @param burstSize maximum number of tokens that can be accumulated
+         * @param maxConcurrentRequests maximum number of requests in flight (0 = unlimited)
+         */
+        public RateLimit(int delay, int burstSize, int maxConcurrentRequests) {
+            this.delay = delay;
+            this.burstSize = burstSize;
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+    }
+
+    private static class RequestQueueEntry {
+        public final ThingUID owner;
+        public final HttpClient httpClient;
+        public final URI finalUrl;
+        public final Consumer<Request> sender;
+        public final CompletableFuture<@Nullable Void> future;
+        public final long queueTime = System.nanoTime();
+
+        public RequestQueueEntry(ThingUID owner, HttpClient httpClient, URI finalUrl, Consumer<Request> sender,
+                CompletableFuture<@Nullable Void> future) {
+            this.owner = owner;
+            this.httpClient = httpClient;
+            this.finalUrl = finalUrl;
+            this.sender = sender;
+            this.future = future;
+        }
+    }
+}
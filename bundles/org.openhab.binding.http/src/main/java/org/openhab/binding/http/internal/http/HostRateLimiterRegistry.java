@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link HostRateLimiterRegistry} manages the {@link HostRateLimiter}s of all hosts, so that all things sending
+ * requests to the same host share the same limits
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HostRateLimiterRegistry {
+    private final Map<String, HostRateLimiter> rateLimiters = new HashMap<>();
+
+    /**
+     * Get the limiter for the host of an URL and register the rate limit of a thing with it
+     *
+     * @param scheduler the scheduler for the limiter (only used if a new limiter is created)
+     * @param uri the request URL
+     * @param owner the thing sending the request
+     * @param rateLimit the rate limit requested by this thing
+     * @return the limiter for this host
+     */
+    public synchronized HostRateLimiter getRateLimiter(ScheduledExecutorService scheduler, URI uri, ThingUID owner,
+            HostRateLimiter.RateLimit rateLimit) {
+        HostRateLimiter rateLimiter = rateLimiters.computeIfAbsent(getHostKey(uri),
+                host -> new HostRateLimiter(host, scheduler));
+        rateLimiter.setRateLimit(owner, rateLimit);
+        return rateLimiter;
+    }
+
+    /**
+     * Remove a thing from all limiters and remove the limiters no longer used
+     *
+     * @param owner the thing
+     */
+    public synchronized void release(ThingUID owner) {
+        rateLimiters.values().removeIf(rateLimiter -> rateLimiter.removeRateLimit(owner));
+    }
+
+    private String getHostKey(URI uri) {
+        // an implicit port is the default port of the scheme, the limiter is the same as for the explicit port
+        return uri.getScheme() + "://" + uri.getHost() + ":" + HttpClient.normalizePort(uri.getScheme(), uri.getPort());
+    }
+}
@@ -14,56 +14,65 @@ package org.openhab.binding.http.internal.http;
 
 import java.net.URI;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.Request;
+import org.openhab.core.thing.ThingUID;
 
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
- * the request creation
+ * the request creation. The limits are applied per host and shared with all other things sending requests to the same
+ * host.
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
-    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
     private HttpClient httpClient;
-    private int delay = 0; // in ms
+    private final ThingUID owner;
     private final ScheduledExecutorService scheduler;
-    private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
+    private final HostRateLimiterRegistry rateLimiterRegistry;
+    private HostRateLimiter.RateLimit rateLimit = new HostRateLimiter.RateLimit(0, 1, 0);
 
-    private @Nullable ScheduledFuture<?> processJob;
-
-    public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
+    public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler,
+            HostRateLimiterRegistry rateLimiterRegistry, ThingUID owner) {
         this.httpClient = httpClient;
         this.scheduler = scheduler;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.owner = owner;
     }
 
     /**
-     * Stop processing the queue and clear it
+     * Stop processing the queue and cancel all queued requests of this client
      */
     public void shutdown() {
-        stopProcessJob();
-        requestQueue.forEach(queueEntry -> queueEntry.future.completeExceptionally(new CancellationException()));
+        rateLimiterRegistry.release(owner);
     }
 
     /**
-     * Set a new delay
-     * 
-     * @param delay in ms between to requests
+     * Set new limits
+     *
+     * @param delay in ms between two requests in sustained operation (0 = no rate limit)
+     * @param burstSize number of requests that can be sent without delay after an idle period
+     * @param maxConcurrentRequests maximum number of requests in flight (0 = unlimited)
      */
-    public void setDelay(int delay) {
+    public void setRateLimit(int delay, int burstSize, int maxConcurrentRequests) {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
-        this.delay = delay;
-        stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
+        if (burstSize < 1) {
+            throw new IllegalArgumentException("Burst size needs to be larger than zero");
         }
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests needs to be larger or equal to zero");
+        }
+        rateLimit = new HostRateLimiter.RateLimit(delay, burstSize, maxConcurrentRequests);
+        // limits are registered with the host limiters on the next request
+        rateLimiterRegistry.release(owner);
     }
 
     /**
@@ -76,21 +85,15 @@ public class RateLimitedHttpClient {
     }
 
     /**
-     * Create a new request to the given URL respecting rate-limits
+     * Create and send a new request to the given URL respecting rate-limits
      *
      * @param finalUrl the request URL
-     * @return a CompletableFuture that completes with the request
+     * @param sender prepares and sends the request, called as soon as the rate-limits allow it
+     * @return a CompletableFuture that completes after the sender was called
      */
-    public CompletableFuture<Request> newRequest(URI finalUrl) {
-        // if no delay is set, return a completed CompletableFuture
-        if (delay == 0) {
-            return CompletableFuture.completedFuture(httpClient.newRequest(finalUrl));
-        }
-        CompletableFuture<Request> future = new CompletableFuture<>();
-        if (!requestQueue.offer(new RequestQueueEntry(finalUrl, future))) {
-            future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
-        }
-        return future;
+    public CompletableFuture<@Nullable Void> newRequest(URI finalUrl, Consumer<Request> sender) {
+        return rateLimiterRegistry.getRateLimiter(scheduler, finalUrl, owner, rateLimit).newRequest(owner, httpClient,
+                finalUrl, sender);
     }
 
     /**
@@ -101,29 +104,4 @@ public class RateLimitedHttpClient {
     public AuthenticationStore getAuthenticationStore() {
         return httpClient.getAuthenticationStore();
     }
-
-    private void stopProcessJob() {
-        ScheduledFuture<?> processJob = this.processJob;
-        if (processJob != null) {
-            processJob.cancel(false);
-            this.processJob = null;
-        }
-    }
-
-    private void processQueue() {
-        RequestQueueEntry queueEntry = requestQueue.poll();
-        if (queueEntry != null) {
-            queueEntry.future.complete(httpClient.newRequest(queueEntry.finalUrl));
-        }
-    }
-
-    private static class RequestQueueEntry {
-        public URI finalUrl;
-        public CompletableFuture<Request> future;
-
-        public RequestQueueEntry(URI finalUrl, CompletableFuture<Request> future) {
-            this.finalUrl = finalUrl;
-            this.future = future;
-        }
-    }
 }
@@ -14,25 +14,32 @@ package org.openhab.binding.http.internal.http;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpHeader;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.core.thing.ThingUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
- * channels
+ * channels of all things using this URL
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -41,27 +48,29 @@ public class RefreshingUrlCache {
     private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCache.class);
 
     private final String url;
-    private final RateLimitedHttpClient httpClient;
+    private final ScheduledExecutorService executor;
     private final int timeout;
     private final int bufferSize;
     private final @Nullable String fallbackEncoding;
-    private final Set<Consumer<Content>> consumers = ConcurrentHashMap.newKeySet();
+    private final Map<ThingUID, Subscription> subscriptions = new ConcurrentHashMap<>();
     private final List<String> headers;
 
-    private final ScheduledFuture<?> future;
+    private @Nullable ScheduledFuture<?> future;
+    private int refreshInterval = 0;
     private @Nullable Content lastContent;
+    private @Nullable URI lastUrl;
 
-    public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient, String url,
-            HttpThingConfig thingConfig) {
-        this.httpClient = httpClient;
+    private final AtomicLong fetchCount = new AtomicLong();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+
+    public RefreshingUrlCache(ScheduledExecutorService executor, String url, HttpThingConfig thingConfig) {
+        this.executor = executor;
         this.url = url;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
         this.headers = thingConfig.headers;
         fallbackEncoding = thingConfig.encoding;
-
-        future = executor.scheduleWithFixedDelay(this::refresh, 0, thingConfig.refresh, TimeUnit.SECONDS);
-        logger.trace("Started refresh task for URL '{}' with interval {}s", url, thingConfig.refresh);
     }
 
     private void refresh() {
@@ -69,18 +78,22 @@ public class RefreshingUrlCache {
     }
 
     private void refresh(boolean isRetry) {
-        if (consumers.isEmpty()) {
+        RateLimitedHttpClient httpClient = getHttpClient();
+        if (httpClient == null) {
             // do not refresh if we don't have listeners
             return;
         }
+        refresh(httpClient, isRetry);
+    }
 
+    private void refresh(RateLimitedHttpClient httpClient, boolean isRetry) {
         // format URL
         try {
             URI finalUrl = new URI(String.format(this.url, new Date()));
 
             logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, finalUrl, timeout);
 
-            httpClient.newRequest(finalUrl).thenAccept(request -> {
+            httpClient.newRequest(finalUrl, request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
 
                 headers.forEach(header -> {
@@ -92,31 +105,43 @@ public class RefreshingUrlCache {
                     }
                 });
 
+                addConditionalHeaders(request, finalUrl);
+
                 CompletableFuture<@Nullable Content> response = new CompletableFuture<>();
-                response.exceptionally(e -> {
-                    if (e instanceof HttpAuthException) {
-                        if (isRetry) {
-                            logger.warn("Retry after authentication  failure failed again for '{}', failing here",
-                                    finalUrl);
-                        } else {
-                            AuthenticationStore authStore = httpClient.getAuthenticationStore();
-                            Authentication.Result authResult = authStore.findAuthenticationResult(finalUrl);
-                            if (authResult != null) {
-                                authStore.removeAuthenticationResult(authResult);
-                                logger.debug("Cleared authentication result for '{}', retrying immediately", finalUrl);
-                                refresh(true);
+                response.whenComplete((content, e) -> {
+                    if (e == null) {
+                        processResult(finalUrl, content);
+                    } else if (e instanceof HttpNotModifiedException) {
+                        notModifiedCount.incrementAndGet();
+                        logger.trace("Content of '{}' not modified, skipping update", finalUrl);
+                    } else {
+                        if (e instanceof HttpAuthException) {
+                            if (isRetry) {
+                                logger.warn("Retry after authentication  failure failed again for '{}', failing here",
+                                        finalUrl);
                             } else {
-                                logger.warn("Could not find authentication result for '{}', failing here", finalUrl);
+                                AuthenticationStore authStore = httpClient.getAuthenticationStore();
+                                Authentication.Result authResult = authStore.findAuthenticationResult(finalUrl);
+                                if (authResult != null) {
+                                    authStore.removeAuthenticationResult(authResult);
+                                    logger.debug("Cleared authentication result for '{}', retrying immediately",
+                                            finalUrl);
+                                    refresh(true);
+                                } else {
+                                    logger.warn("Could not find authentication result for '{}', failing here",
+                                            finalUrl);
+                                }
                             }
                         }
+                        processResult(finalUrl, null);
                     }
-                    return null;
-                }).thenAccept(this::processResult);
+                });
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", finalUrl, Util.requestToLogString(request));
                 }
 
+                fetchCount.incrementAndGet();
                 request.send(new HttpResponseListener(response, fallbackEncoding, bufferSize));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
@@ -131,15 +156,85 @@ public class RefreshingUrlCache {
         }
     }
 
-    public void stop() {
-        // clearing all listeners to prevent further updates
-        consumers.clear();
-        future.cancel(false);
+    /**
+     * Add a consumer for the content of this URL
+     *
+     * If the requested refresh interval is shorter than the current one, the refresh task is rescheduled so that all
+     * consumers are served by a single request at the fastest requested interval.
+     *
+     * @param owner the thing that requests the content
+     * @param httpClient the (rate-limited) client of that thing
+     * @param refresh the refresh interval requested by the thing in s
+     * @param consumer the consumer for the content
+     */
+    public synchronized void addConsumer(ThingUID owner, RateLimitedHttpClient httpClient, int refresh,
+            Consumer<Content> consumer) {
+        subscriptions.computeIfAbsent(owner, o -> new Subscription(httpClient, refresh)).consumers.add(consumer);
+        reschedule();
+
+        // unchanged content is not passed to the consumers again, so late subscribers need the cached content
+        Content content = lastContent;
+        if (content != null) {
+            executor.execute(() -> {
+                try {
+                    consumer.accept(content);
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove all consumers of a thing
+     *
+     * The refresh task is stopped when no consumers are left and slowed down if the removed thing was the one
+     * requesting the fastest interval.
+     *
+     * @param owner the thing that no longer requests the content
+     * @return true if no consumers are left
+     */
+    public synchronized boolean removeConsumers(ThingUID owner) {
+        subscriptions.remove(owner);
+        if (subscriptions.isEmpty()) {
+            stop();
+            return true;
+        }
+        reschedule();
+        return false;
+    }
+
+    private void reschedule() {
+        int newRefreshInterval = subscriptions.values().stream().mapToInt(subscription -> subscription.refresh).min()
+                .orElse(0);
+        ScheduledFuture<?> future = this.future;
+        if (future != null && newRefreshInterval == refreshInterval) {
+            return;
+        }
+        // only start at once if no content is available yet or the interval is shortened
+        long initialDelay = future == null || newRefreshInterval < refreshInterval ? 0 : newRefreshInterval;
+        if (future != null) {
+            future.cancel(false);
+        }
+        refreshInterval = newRefreshInterval;
+        this.future = executor.scheduleWithFixedDelay(this::refresh, initialDelay, refreshInterval, TimeUnit.SECONDS);
+        logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshInterval);
+    }
+
+    private synchronized void stop() {
+        ScheduledFuture<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+            this.future = null;
+        }
         logger.trace("Stopped refresh task for URL '{}'", url);
+        logger.debug("Statistics for URL '{}': {} fetches, {} not modified, {} unchanged", url, fetchCount.get(),
+                notModifiedCount.get(), unchangedCount.get());
     }
 
-    public void addConsumer(Consumer<Content> consumer) {
-        consumers.add(consumer);
+    private @Nullable RateLimitedHttpClient getHttpClient() {
+        return subscriptions.values().stream().min(Comparator.comparingInt(subscription -> subscription.refresh))
+                .map(subscription -> subscription.httpClient).orElse(null);
     }
 
     public Optional<Content> get() {
@@ -151,16 +246,83 @@ public class RefreshingUrlCache {
         }
     }
 
-    private void processResult(@Nullable Content content) {
+    /**
+     * get the number of requests sent to this URL
+     *
+     * @return number of requests
+     */
+    public long getFetchCount() {
+        return fetchCount.get();
+    }
+
+    /**
+     * get the number of requests that were answered with <code>304 Not Modified</code>
+     *
+     * @return number of not modified responses
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * get the number of responses with a body identical to the previous one
+     *
+     * @return number of unchanged responses
+     */
+    public long getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    private void addConditionalHeaders(Request request, URI finalUrl) {
+        Content content = lastContent;
+        if (content == null || !finalUrl.equals(lastUrl)) {
+            // validators are only valid for the exact same resource
+            return;
+        }
+        String eTag = content.getETag();
+        if (eTag != null) {
+            request.header(HttpHeader.IF_NONE_MATCH, eTag);
+        }
+        String lastModified = content.getLastModified();
+        if (lastModified != null) {
+            request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+        }
+    }
+
+    private void processResult(URI finalUrl, @Nullable Content content) {
+        Content previousContent = lastContent;
+        if (content != null && previousContent != null
+                && Arrays.equals(content.getRawContent(), previousContent.getRawContent())) {
+            unchangedCount.incrementAndGet();
+            logger.trace("Content of '{}' unchanged, skipping update", finalUrl);
+            // keep the new validators for the next conditional request
+            lastContent = content;
+            lastUrl = finalUrl;
+            return;
+        }
         if (content != null) {
-            for (Consumer<Content> consumer : consumers) {
-                try {
-                    consumer.accept(content);
-                } catch (IllegalArgumentException | IllegalStateException e) {
-                    logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
+            for (Subscription subscription : subscriptions.values()) {
+                for (Consumer<Content> consumer : subscription.consumers) {
+                    try {
+                        consumer.accept(content);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
+                    }
                 }
             }
         }
         lastContent = content;
+        lastUrl = finalUrl;
+    }
+
+    private static class Subscription {
+        public final RateLimitedHttpClient httpClient;
+        public final int refresh;
+        public final Set<Consumer<Content>> consumers = ConcurrentHashMap.newKeySet();
+
+        public Subscription(RateLimitedHttpClient httpClient, int refresh) {
+            this.httpClient = httpClient;
+            this.refresh = refresh;
+        }
     }
 }
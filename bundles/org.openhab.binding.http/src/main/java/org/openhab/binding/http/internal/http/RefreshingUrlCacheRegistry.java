@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.http.internal.config.HttpAuthMode;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares {@link RefreshingUrlCache}s between all things requesting the same
+ * URL with the same request parameters, so that each URL is only polled once
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+    private final Map<CacheKey, RefreshingUrlCache> caches = new HashMap<>();
+
+    /**
+     * Get the cache for an URL and add a consumer to it
+     *
+     * @param executor the executor for the refresh task (only used if a new cache is created)
+     * @param url the URL (may contain format parameters)
+     * @param thingConfig the configuration of the requesting thing
+     * @param owner the requesting thing
+     * @param httpClient the (rate-limited) client of the requesting thing
+     * @param consumer the consumer for the content
+     * @return the (shared) cache for this URL
+     */
+    public synchronized RefreshingUrlCache subscribe(ScheduledExecutorService executor, String url,
+            HttpThingConfig thingConfig, ThingUID owner, RateLimitedHttpClient httpClient,
+            Consumer<Content> consumer) {
+        RefreshingUrlCache cache = caches.computeIfAbsent(new CacheKey(url, thingConfig),
+                key -> new RefreshingUrlCache(executor, url, thingConfig));
+        cache.addConsumer(owner, httpClient, thingConfig.refresh, consumer);
+        return cache;
+    }
+
+    /**
+     * Remove all consumers of a thing from a cache and stop the cache if it is no longer used
+     *
+     * @param cache the cache
+     * @param owner the thing that no longer requests the content
+     */
+    public synchronized void unsubscribe(RefreshingUrlCache cache, ThingUID owner) {
+        if (cache.removeConsumers(owner)) {
+            caches.values().remove(cache);
+        }
+    }
+
+    private static class CacheKey {
+        private final String url;
+        private final List<String> headers;
+        private final String username;
+        private final String password;
+        private final HttpAuthMode authMode;
+        private final boolean ignoreSSLErrors;
+        private final int timeout;
+        private final int bufferSize;
+        private final @Nullable String encoding;
+
+        public CacheKey(String url, HttpThingConfig thingConfig) {
+            this.url = url;
+            this.headers = List.copyOf(thingConfig.headers);
+            this.username = thingConfig.username;
+            this.password = thingConfig.password;
+            this.authMode = thingConfig.authMode;
+            this.ignoreSSLErrors = thingConfig.ignoreSSLErrors;
+            this.timeout = thingConfig.timeout;
+            this.bufferSize = thingConfig.bufferSize;
+            this.encoding = thingConfig.encoding;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return url.equals(other.url) && headers.equals(other.headers) && username.equals(other.username)
+                    && password.equals(other.password) && authMode == other.authMode
+                    && ignoreSSLErrors == other.ignoreSSLErrors && timeout == other.timeout
+                    && bufferSize == other.bufferSize && Objects.equals(encoding, other.encoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, headers, username, password, authMode, ignoreSSLErrors, timeout, bufferSize,
+                    encoding);
+        }
+    }
+}
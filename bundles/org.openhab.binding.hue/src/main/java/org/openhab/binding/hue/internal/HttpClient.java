@@ -20,17 +20,33 @@ import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
 /**
+ * Sends the requests to the bridge. Asynchronous updates are queued and sent with the delay recommended for them.
+ * A queued update is replaced by a later one for the same resource if the later one sets all of its values, and queued
+ * updates with identical bodies can be replaced by a single update, see {@link UpdateCombiner}.
  *
  * @author Q42 - Initial contribution
  * @author Denis Dudnik - moved Jue library source code inside the smarthome Hue binding
@@ -41,27 +57,35 @@ public class HttpClient {
     private final Logger logger = LoggerFactory.getLogger(HttpClient.class);
     private final LinkedList<AsyncPutParameters> commandsQueue = new LinkedList<>();
     private @Nullable Future<?> job;
+    private @Nullable UpdateCombiner updateCombiner;
+    private final QueueStatistics queueStatistics = new QueueStatistics();
 
-    @SuppressWarnings({ "null", "unused" })
+    @SuppressWarnings("null")
     private void executeCommands() {
         while (true) {
             try {
-                long delayTime = 0;
+                AsyncPutParameters payloadCallbackPair;
+                List<AsyncPutParameters> sentCommands = new ArrayList<>();
+                String address;
                 synchronized (commandsQueue) {
-                    AsyncPutParameters payloadCallbackPair = commandsQueue.poll();
-                    if (payloadCallbackPair != null) {
-                        logger.debug("Async sending put to address: {} delay: {} body: {}", payloadCallbackPair.address,
-                                payloadCallbackPair.delay, payloadCallbackPair.body);
-                        try {
-                            Result result = put(payloadCallbackPair.address, payloadCallbackPair.body);
-                            payloadCallbackPair.future.complete(result);
-                        } catch (IOException e) {
-                            payloadCallbackPair.future.completeExceptionally(e);
-                        }
-                        delayTime = payloadCallbackPair.delay;
-                    } else {
+                    payloadCallbackPair = commandsQueue.poll();
+                    if (payloadCallbackPair == null) {
                         return;
                     }
+                    sentCommands.add(payloadCallbackPair);
+                    address = combineCommands(payloadCallbackPair, sentCommands);
+                }
+                long latency = System.nanoTime() - payloadCallbackPair.queueTime;
+                long delayTime = sentCommands.stream().mapToLong(command -> command.delay).max().orElse(0);
+                queueStatistics.sent(sentCommands.size(), latency);
+                logger.debug("Async sending put to address: {} delay: {} latency: {}ms combined: {} body: {}", address,
+                        delayTime, TimeUnit.NANOSECONDS.toMillis(latency), sentCommands.size(),
+                        payloadCallbackPair.body);
+                try {
+                    Result result = put(address, payloadCallbackPair.body);
+                    sentCommands.forEach(command -> command.future.complete(result));
+                } catch (IOException e) {
+                    sentCommands.forEach(command -> command.future.completeExceptionally(e));
                 }
                 Thread.sleep(delayTime);
             } catch (InterruptedException e) {
@@ -70,6 +94,82 @@ public class HttpClient {
         }
     }
 
+    /**
+     * Looks for queued commands with the same body as the given one, which can be sent as a single command. Only the
+     * first queued command of each address is considered. Must be called while holding the lock of the queue.
+     *
+     * @param command the command to be sent next
+     * @param sentCommands receives the queued commands replaced by the combined command
+     * @return the address to send the body of the command to
+     */
+    private String combineCommands(AsyncPutParameters command, List<AsyncPutParameters> sentCommands) {
+        UpdateCombiner combiner = updateCombiner;
+        if (combiner == null) {
+            return command.address;
+        }
+        Map<String, AsyncPutParameters> sameBody = new LinkedHashMap<>();
+        Set<String> seenAddresses = new HashSet<>();
+        sameBody.put(command.address, command);
+        seenAddresses.add(command.address);
+        for (AsyncPutParameters queued : commandsQueue) {
+            // only the next update of a resource may be sent early, a later one would overtake the pending ones
+            if (seenAddresses.add(queued.address) && queued.body.equals(command.body)) {
+                sameBody.put(queued.address, queued);
+            }
+        }
+        if (sameBody.size() < 2) {
+            return command.address;
+        }
+        CombinedUpdate combined = combiner.combine(new ArrayList<>(sameBody.keySet()));
+        if (combined == null || !combined.replacedAddresses.contains(command.address)) {
+            return command.address;
+        }
+        for (String replacedAddress : combined.replacedAddresses) {
+            AsyncPutParameters queued = sameBody.get(replacedAddress);
+            if (queued != null && queued != command) {
+                commandsQueue.remove(queued);
+                sentCommands.add(queued);
+            }
+        }
+        return combined.address;
+    }
+
+    /**
+     * Checks whether a queued update is made obsolete by a later update of the same resource, i.e. the later update
+     * sets all of its values. Relative changes are never replaced.
+     */
+    private boolean supersedes(String body, String queuedBody) {
+        try {
+            JsonElement element = new JsonParser().parse(body);
+            JsonElement queuedElement = new JsonParser().parse(queuedBody);
+            if (!element.isJsonObject() || !queuedElement.isJsonObject()) {
+                return false;
+            }
+            Set<String> keys = element.getAsJsonObject().keySet();
+            for (String key : queuedElement.getAsJsonObject().keySet()) {
+                if (key.endsWith("_inc") || (!keys.contains(key) && !"transitiontime".equals(key))) {
+                    return false;
+                }
+            }
+            return keys.stream().noneMatch(key -> key.endsWith("_inc"));
+        } catch (JsonParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sets the {@link UpdateCombiner} used to replace queued updates with identical bodies by a single update.
+     *
+     * @param updateCombiner the combiner or null to send all updates
+     */
+    public void setUpdateCombiner(@Nullable UpdateCombiner updateCombiner) {
+        this.updateCombiner = updateCombiner;
+    }
+
+    public QueueStatistics getQueueStatistics() {
+        return queueStatistics;
+    }
+
     public void setTimeout(int timeout) {
         this.timeout = timeout;
     }
@@ -91,6 +191,20 @@ public class HttpClient {
         AsyncPutParameters asyncPutParameters = new AsyncPutParameters(address, body, delay);
 
         synchronized (commandsQueue) {
+            Iterator<AsyncPutParameters> iterator = commandsQueue.descendingIterator();
+            while (iterator.hasNext()) {
+                AsyncPutParameters queued = iterator.next();
+                if (queued.address.equals(address)) {
+                    if (supersedes(body, queued.body)) {
+                        logger.trace("Replacing queued put to address: {} body: {}", address, queued.body);
+                        queued.body = body;
+                        queued.delay = Math.max(queued.delay, delay);
+                        queueStatistics.superseded.incrementAndGet();
+                        return queued.future;
+                    }
+                    break;
+                }
+            }
             if (commandsQueue.isEmpty()) {
                 commandsQueue.offer(asyncPutParameters);
                 if (job == null || job.isDone()) {
@@ -160,15 +274,99 @@ public class HttpClient {
 
     public final class AsyncPutParameters {
         public final String address;
-        public final String body;
+        // body and delay are changed while queued if a later update supersedes this one
+        public String body;
         public final CompletableFuture<Result> future;
-        public final long delay;
+        public long delay;
+        public final long queueTime;
 
         public AsyncPutParameters(String address, String body, long delay) {
             this.address = address;
             this.body = body;
             this.future = new CompletableFuture<>();
             this.delay = delay;
+            this.queueTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * The {@link UpdateCombiner} replaces queued updates of several resources by one update of another resource, e.g.
+     * the updates of all lights of a group by an update of the group.
+     */
+    public interface UpdateCombiner {
+        /**
+         * @param addresses the addresses of queued updates with identical bodies, the first one is sent next
+         * @return the update replacing some of the updates or null if they cannot be combined
+         */
+        @Nullable
+        CombinedUpdate combine(List<String> addresses);
+    }
+
+    public static class CombinedUpdate {
+        public final String address;
+        public final Set<String> replacedAddresses;
+
+        /**
+         * @param address the address to send the body of the replaced updates to
+         * @param replacedAddresses the addresses of the replaced updates
+         */
+        public CombinedUpdate(String address, Set<String> replacedAddresses) {
+            this.address = address;
+            this.replacedAddresses = replacedAddresses;
+        }
+    }
+
+    /**
+     * The {@link QueueStatistics} count the updates sent from the queue and the time they were queued.
+     */
+    public static class QueueStatistics {
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong superseded = new AtomicLong();
+        private final AtomicLong combined = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        private void sent(int updates, long latency) {
+            sent.incrementAndGet();
+            combined.addAndGet(updates - 1);
+            totalLatency.addAndGet(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+
+        /**
+         * @return the number of requests sent
+         */
+        public long getSent() {
+            return sent.get();
+        }
+
+        /**
+         * @return the number of updates replaced by a later update of the same resource
+         */
+        public long getSuperseded() {
+            return superseded.get();
+        }
+
+        /**
+         * @return the number of updates replaced by a combined update
+         */
+        public long getCombined() {
+            return combined.get();
+        }
+
+        /**
+         * @return the average time between queueing and sending a request in milliseconds
+         */
+        public long getAverageLatency() {
+            long count = sent.get();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency.get() / count);
+        }
+
+        /**
+         * @return the longest time between queueing and sending a request in milliseconds
+         */
+        public long getMaxLatency() {
+            return TimeUnit.NANOSECONDS.toMillis(maxLatency.get());
         }
     }
 }
@@ -25,15 +25,21 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.HttpClient.CombinedUpdate;
 import org.openhab.binding.hue.internal.HttpClient.Result;
 import org.openhab.binding.hue.internal.exceptions.ApiException;
 import org.openhab.binding.hue.internal.exceptions.DeviceOffException;
@@ -78,6 +84,12 @@ public class HueBridge {
     @Nullable
     private Config cachedConfig;
 
+    // bodies of the last responses returned by the *IfChanged methods, per resource
+    private final Map<String, String> lastResponses = new ConcurrentHashMap<>();
+    private final Map<String, FetchStatistics> fetchStatistics = new ConcurrentHashMap<>();
+    // the encoded ids of the lights of each group, as of the last time the groups were fetched
+    private volatile Map<String, Set<String>> groupLightIds = Map.of();
+
     /**
      * Connect with a bridge as a new user.
      *
@@ -97,6 +109,7 @@ public class HueBridge {
         }
         this.baseUrl = baseUrl;
         this.scheduler = scheduler;
+        http.setUpdateCombiner(this::combineLightUpdates);
     }
 
     /**
@@ -126,6 +139,7 @@ public class HueBridge {
         this.username = username;
         this.scheduler = scheduler;
         this.http = http;
+        http.setUpdateCombiner(this::combineLightUpdates);
     }
 
     /**
@@ -211,14 +225,37 @@ public class HueBridge {
         return getTypedLights(gsonType);
     }
 
-    private <T extends HueObject> List<T> getTypedLights(Type gsonType) throws IOException, ApiException {
-        requireAuthentication();
+    /**
+     * Returns the lights known to the bridge, unless the response of the bridge is identical to the one of the previous
+     * call of this method. Unchanged responses are neither checked for errors nor parsed.
+     *
+     * @return list of known lights or null if nothing changed since the previous call
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public @Nullable List<FullLight> getFullLightsIfChanged() throws IOException, ApiException {
+        if (!ApiVersionUtils.supportsFullLights(getVersion())) {
+            return getFullConfig().getLights();
+        }
+        Result result = fetch("lights");
+        if (isUnchanged("lights", result)) {
+            return null;
+        }
+        handleErrors(result);
+        List<FullLight> lights = parseLights(result.getBody(), FullLight.GSON_TYPE);
+        lastResponses.put("lights", result.getBody());
+        return lights;
+    }
 
-        Result result = http.get(getRelativeURL("lights"));
+    private <T extends HueObject> List<T> getTypedLights(Type gsonType) throws IOException, ApiException {
+        Result result = fetch("lights");
 
         handleErrors(result);
 
-        Map<String, T> lightMap = safeFromJson(result.getBody(), gsonType);
+        return parseLights(result.getBody(), gsonType);
+    }
+
+    private <T extends HueObject> List<T> parseLights(String body, Type gsonType) throws ApiException {
+        Map<String, T> lightMap = safeFromJson(body, gsonType);
         ArrayList<T> lightList = new ArrayList<>();
 
         for (String id : lightMap.keySet()) {
@@ -240,13 +277,33 @@ public class HueBridge {
      * @throws UnauthorizedException thrown if the user no longer exists
      */
     public List<FullSensor> getSensors() throws IOException, ApiException {
-        requireAuthentication();
+        Result result = fetch("sensors");
 
-        Result result = http.get(getRelativeURL("sensors"));
+        handleErrors(result);
 
+        return parseSensors(result.getBody());
+    }
+
+    /**
+     * Returns the sensors known to the bridge, unless the response of the bridge is identical to the one of the
+     * previous call of this method. Unchanged responses are neither checked for errors nor parsed.
+     *
+     * @return list of sensors or null if nothing changed since the previous call
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public @Nullable List<FullSensor> getSensorsIfChanged() throws IOException, ApiException {
+        Result result = fetch("sensors");
+        if (isUnchanged("sensors", result)) {
+            return null;
+        }
         handleErrors(result);
+        List<FullSensor> sensors = parseSensors(result.getBody());
+        lastResponses.put("sensors", result.getBody());
+        return sensors;
+    }
 
-        Map<String, FullSensor> sensorMap = safeFromJson(result.getBody(), FullSensor.GSON_TYPE);
+    private List<FullSensor> parseSensors(String body) throws ApiException {
+        Map<String, FullSensor> sensorMap = safeFromJson(body, FullSensor.GSON_TYPE);
         ArrayList<FullSensor> sensorList = new ArrayList<>();
 
         for (String id : sensorMap.keySet()) {
@@ -436,13 +493,33 @@ public class HueBridge {
      * @throws UnauthorizedException thrown if the user no longer exists
      */
     public List<FullGroup> getGroups() throws IOException, ApiException {
-        requireAuthentication();
+        Result result = fetch("groups");
 
-        Result result = http.get(getRelativeURL("groups"));
+        handleErrors(result);
 
+        return parseGroups(result.getBody());
+    }
+
+    /**
+     * Returns the list of groups, unless the response of the bridge is identical to the one of the previous call of
+     * this method. Unchanged responses are neither checked for errors nor parsed.
+     *
+     * @return list of groups or null if nothing changed since the previous call
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public @Nullable List<FullGroup> getGroupsIfChanged() throws IOException, ApiException {
+        Result result = fetch("groups");
+        if (isUnchanged("groups", result)) {
+            return null;
+        }
         handleErrors(result);
+        List<FullGroup> groups = parseGroups(result.getBody());
+        lastResponses.put("groups", result.getBody());
+        return groups;
+    }
 
-        Map<String, FullGroup> groupMap = safeFromJson(result.getBody(), FullGroup.GSON_TYPE);
+    private List<FullGroup> parseGroups(String body) throws IOException, ApiException {
+        Map<String, FullGroup> groupMap = safeFromJson(body, FullGroup.GSON_TYPE);
         ArrayList<FullGroup> groupList = new ArrayList<>();
 
         if (groupMap.get("0") == null) {
@@ -463,9 +540,55 @@ public class HueBridge {
             groupList.add(group);
         });
 
+        Map<String, Set<String>> lightIds = new HashMap<>();
+        for (FullGroup group : groupList) {
+            Set<String> ids = new HashSet<>();
+            group.getLightIds().forEach(lightId -> ids.add(enc(lightId)));
+            lightIds.put(group.getId(), ids);
+        }
+        groupLightIds = lightIds;
+
         return groupList;
     }
 
+    /**
+     * Replaces queued light state updates with identical bodies by an update of the largest group whose lights all
+     * receive that update. The group has to contain the light updated next, so no light is updated later than
+     * without combining.
+     */
+    private @Nullable CombinedUpdate combineLightUpdates(List<String> addresses) {
+        String prefix = getRelativeURL("lights/");
+        String suffix = "/state";
+        Set<String> lightIds = new HashSet<>();
+        for (String address : addresses) {
+            if (address.startsWith(prefix) && address.endsWith(suffix)) {
+                lightIds.add(address.substring(prefix.length(), address.length() - suffix.length()));
+            }
+        }
+        String next = addresses.get(0);
+        if (!next.startsWith(prefix) || !next.endsWith(suffix)) {
+            return null;
+        }
+        String nextLightId = next.substring(prefix.length(), next.length() - suffix.length());
+
+        String groupId = null;
+        Set<String> groupLights = Set.of();
+        for (Map.Entry<String, Set<String>> entry : groupLightIds.entrySet()) {
+            Set<String> members = entry.getValue();
+            if (members.size() > Math.max(1, groupLights.size()) && members.contains(nextLightId)
+                    && lightIds.containsAll(members)) {
+                groupId = entry.getKey();
+                groupLights = members;
+            }
+        }
+        if (groupId == null) {
+            return null;
+        }
+        logger.debug("Combining the updates of lights {} into an update of group {}", groupLights, groupId);
+        return new CombinedUpdate(getRelativeURL("groups/" + enc(groupId) + "/action"),
+                groupLights.stream().map(lightId -> prefix + lightId + suffix).collect(Collectors.toSet()));
+    }
+
     /**
      * Creates a new group and returns it.
      * Due to API limitations, the name of the returned object
@@ -1045,6 +1168,76 @@ public class HueBridge {
         return Objects.requireNonNull(fullConfig);
     }
 
+    private Result fetch(String resource) throws IOException {
+        requireAuthentication();
+
+        Result result = http.get(getRelativeURL(resource));
+
+        FetchStatistics statistics = Objects
+                .requireNonNull(fetchStatistics.computeIfAbsent(resource, r -> new FetchStatistics()));
+        statistics.fetched.incrementAndGet();
+        statistics.receivedCharacters.addAndGet(result.getBody().length());
+        return result;
+    }
+
+    private boolean isUnchanged(String resource, Result result) {
+        if (result.getResponseCode() == 200 && result.getBody().equals(lastResponses.get(resource))) {
+            FetchStatistics statistics = fetchStatistics.get(resource);
+            if (statistics != null) {
+                statistics.unchanged.incrementAndGet();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Forgets the responses remembered by the *IfChanged methods, so their next calls return the current state in any
+     * case.
+     */
+    public void resetChangeDetection() {
+        lastResponses.clear();
+    }
+
+    /**
+     * Returns the statistics of the lights, groups and sensors requests sent to the bridge.
+     *
+     * @return the statistics per resource
+     */
+    public Map<String, FetchStatistics> getFetchStatistics() {
+        return fetchStatistics;
+    }
+
+    /**
+     * Returns the statistics of the queue of light, group and sensor updates.
+     *
+     * @return the statistics of the queue
+     */
+    public HttpClient.QueueStatistics getQueueStatistics() {
+        return http.getQueueStatistics();
+    }
+
+    /**
+     * The {@link FetchStatistics} count the requests of a resource and the unchanged responses which were not parsed.
+     */
+    public static class FetchStatistics {
+        private final AtomicLong fetched = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong receivedCharacters = new AtomicLong();
+
+        public long getFetched() {
+            return fetched.get();
+        }
+
+        public long getUnchanged() {
+            return unchanged.get();
+        }
+
+        public long getReceivedCharacters() {
+            return receivedCharacters.get();
+        }
+    }
+
     // Used as assert in requests that require authentication
     private void requireAuthentication() {
         if (this.username == null) {
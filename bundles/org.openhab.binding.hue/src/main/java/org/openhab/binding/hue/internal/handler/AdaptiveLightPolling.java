@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link AdaptiveLightPolling} decides which runs of the light polling job of the adaptive polling actually poll
+ * the lights. While the lights do not change, polls are skipped so that the lights are polled up to
+ * {@link #MAX_IDLE_POLLING_FACTOR} times less often. A requested poll, e.g. after a command, is never skipped.
+ *
+ * Except for {@link #requestPoll()}, the methods must only be called by the (serialized) light polling.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AdaptiveLightPolling {
+    // lights are polled up to this factor less often while nothing changes
+    static final int MAX_IDLE_POLLING_FACTOR = 4;
+
+    private volatile boolean pollRequested = true;
+    private int idlePolls;
+    private long nextPollTime;
+
+    /**
+     * Request the next run of the polling job to poll the lights
+     */
+    void requestPoll() {
+        pollRequested = true;
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @return true if the lights are to be polled
+     */
+    boolean isPollDue(long now) {
+        return pollRequested || now - nextPollTime >= 0;
+    }
+
+    /**
+     * Update the time of the next poll after the lights were polled
+     *
+     * @param now the time of the poll in nanoseconds
+     * @param interval the interval of the polling job in nanoseconds
+     * @param changed true if the lights changed since the previous poll
+     */
+    void polled(long now, long interval, boolean changed) {
+        pollRequested = false;
+        idlePolls = changed ? 0 : Math.min(idlePolls + 1, MAX_IDLE_POLLING_FACTOR - 1);
+        // polls are skipped until half a polling interval before the time of the next poll, as the polling job
+        // runs once per polling interval
+        nextPollTime = now + interval * (idlePolls + 1) - interval / 2;
+    }
+
+    /**
+     * @return the number of polls in a row without changes of the lights, limited by the maximum idle interval
+     */
+    int getIdlePolls() {
+        return idlePolls;
+    }
+}
@@ -40,6 +40,7 @@ import org.openhab.binding.hue.internal.FullConfig;
 import org.openhab.binding.hue.internal.FullGroup;
 import org.openhab.binding.hue.internal.FullLight;
 import org.openhab.binding.hue.internal.FullSensor;
+import org.openhab.binding.hue.internal.HttpClient;
 import org.openhab.binding.hue.internal.HueBridge;
 import org.openhab.binding.hue.internal.HueConfigStatusMessage;
 import org.openhab.binding.hue.internal.Scene;
@@ -96,12 +97,19 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
     private static final long SCENE_POLLING_INTERVAL = TimeUnit.SECONDS.convert(10, TimeUnit.MINUTES);
 
+    // adaptive polling: delay of the poll following a command, after the fade time has passed
+    private static final long COMMAND_POLLING_DELAY = 500L;
+    // adaptive polling: groups and sensors without a thing are only polled this often, for the discovery
+    private static final long DISCOVERY_POLLING_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
     private final Logger logger = LoggerFactory.getLogger(HueBridgeHandler.class);
     private final HueStateDescriptionOptionProvider stateDescriptionOptionProvider;
 
     private final Map<String, FullLight> lastLightStates = new ConcurrentHashMap<>();
     private final Map<String, FullSensor> lastSensorStates = new ConcurrentHashMap<>();
     private final Map<String, FullGroup> lastGroupStates = new ConcurrentHashMap<>();
+    // states the light handlers did not accept because of their poll bypass
+    private final Map<String, FullLight> bypassedLightStates = new ConcurrentHashMap<>();
 
     private @Nullable HueDeviceDiscoveryService discoveryService;
     private final Map<String, LightStatusListener> lightStatusListeners = new ConcurrentHashMap<>();
@@ -186,7 +194,24 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
             final HueDeviceDiscoveryService discovery = discoveryService;
 
-            for (final FullSensor sensor : hueBridge.getSensors()) {
+            List<FullSensor> sensors;
+            if (hueBridgeConfig.isAdaptivePolling()) {
+                long now = System.nanoTime();
+                if (sensorStatusListeners.isEmpty()) {
+                    if (discovery == null || now - nextSensorDiscoveryPollTime < 0) {
+                        return;
+                    }
+                    nextSensorDiscoveryPollTime = now + DISCOVERY_POLLING_INTERVAL;
+                }
+                sensors = hueBridge.getSensorsIfChanged();
+                if (sensors == null) {
+                    return;
+                }
+            } else {
+                sensors = hueBridge.getSensors();
+            }
+
+            for (final FullSensor sensor : sensors) {
                 String sensorId = sensor.getId();
 
                 final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
@@ -223,22 +248,59 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         }
     };
 
-    private final Runnable lightPollingRunnable = new PollingRunnable() {
+    private class LightPollingRunnable extends PollingRunnable {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
-            updateLights();
-            updateGroups();
+            if (hueBridgeConfig.isAdaptivePolling()) {
+                doAdaptiveRun();
+            } else {
+                updateLights(getLights());
+                updateGroups(hueBridge.getGroups());
+            }
         }
 
-        private void updateLights() throws IOException, ApiException {
-            Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
+        private void doAdaptiveRun() throws IOException, ApiException {
+            long now = System.nanoTime();
+            if (!adaptiveLightPolling.isPollDue(now)) {
+                return;
+            }
 
-            List<FullLight> lights;
+            List<FullLight> lights = hueBridge.getFullLightsIfChanged();
+            boolean lightsChanged;
+            if (lights != null) {
+                updateLights(lights);
+                lightsChanged = true;
+            } else {
+                lightsChanged = updateBypassedLights();
+            }
+
+            // group states are derived from the light states, so they need to be computed again if a light changed
+            groupStatesOutdated |= lightsChanged;
+            List<FullGroup> groups = null;
+            if (!groupStatusListeners.isEmpty()) {
+                groups = groupStatesOutdated ? hueBridge.getGroups() : hueBridge.getGroupsIfChanged();
+            } else if (discoveryService != null && now - nextGroupDiscoveryPollTime >= 0) {
+                groups = hueBridge.getGroups();
+                nextGroupDiscoveryPollTime = now + DISCOVERY_POLLING_INTERVAL;
+            }
+            if (groups != null) {
+                updateGroups(groups);
+                groupStatesOutdated = false;
+            }
+
+            adaptiveLightPolling.polled(now, TimeUnit.SECONDS.toNanos(lightPollingInterval), lightsChanged);
+        }
+
+        private List<FullLight> getLights() throws IOException, ApiException {
             if (ApiVersionUtils.supportsFullLights(hueBridge.getVersion())) {
-                lights = hueBridge.getFullLights();
+                return hueBridge.getFullLights();
             } else {
-                lights = hueBridge.getFullConfig().getLights();
+                return hueBridge.getFullConfig().getLights();
             }
+        }
+
+        private void updateLights(List<FullLight> lights) {
+            Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
 
             final HueDeviceDiscoveryService discovery = discoveryService;
 
@@ -257,6 +319,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 } else {
                     if (lightStatusListener.onLightStateChanged(fullLight)) {
                         lastLightStates.put(lightId, fullLight);
+                        bypassedLightStates.remove(lightId);
+                    } else {
+                        bypassedLightStates.put(lightId, fullLight);
                     }
                 }
                 lastLightStateCopy.remove(lightId);
@@ -266,6 +331,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             lastLightStateCopy.forEach((lightId, light) -> {
                 logger.trace("Hue light '{}' removed.", lightId);
                 lastLightStates.remove(lightId);
+                bypassedLightStates.remove(lightId);
 
                 final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
                 if (lightStatusListener != null) {
@@ -278,10 +344,28 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             });
         }
 
-        private void updateGroups() throws IOException, ApiException {
-            Map<String, FullGroup> lastGroupStateCopy = new HashMap<>(lastGroupStates);
+        /**
+         * Delivers the states again which the light handlers did not accept during their poll bypass. Needed if the
+         * lights did not change since, as their states are not parsed again then.
+         *
+         * @return true if a state was accepted
+         */
+        private boolean updateBypassedLights() {
+            boolean updated = false;
+            for (Map.Entry<String, FullLight> entry : bypassedLightStates.entrySet()) {
+                final String lightId = entry.getKey();
+                final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
+                if (lightStatusListener == null || lightStatusListener.onLightStateChanged(entry.getValue())) {
+                    lastLightStates.put(lightId, entry.getValue());
+                    bypassedLightStates.remove(lightId);
+                    updated = true;
+                }
+            }
+            return updated;
+        }
 
-            List<FullGroup> groups = hueBridge.getGroups();
+        private void updateGroups(List<FullGroup> groups) {
+            Map<String, FullGroup> lastGroupStateCopy = new HashMap<>(lastGroupStates);
 
             final HueDeviceDiscoveryService discovery = discoveryService;
 
@@ -367,7 +451,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 }
             });
         }
-    };
+    }
+
+    private final Runnable lightPollingRunnable = new LightPollingRunnable();
 
     private final Runnable scenePollingRunnable = new PollingRunnable() {
         @Override
@@ -399,6 +485,14 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private @Nullable ScheduledFuture<?> lightPollingJob;
     private @Nullable ScheduledFuture<?> sensorPollingJob;
     private @Nullable ScheduledFuture<?> scenePollingJob;
+    private @Nullable ScheduledFuture<?> commandPollingJob;
+
+    private long lightPollingInterval;
+    // state of the adaptive polling, only accessed by the polling runnables while holding the pollingLock
+    private final AdaptiveLightPolling adaptiveLightPolling = new AdaptiveLightPolling();
+    private boolean groupStatesOutdated;
+    private long nextGroupDiscoveryPollTime = System.nanoTime();
+    private long nextSensorDiscoveryPollTime = System.nanoTime();
 
     private @NonNullByDefault({}) HueBridge hueBridge = null;
     private @NonNullByDefault({}) HueBridgeConfig hueBridgeConfig = null;
@@ -431,6 +525,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 try {
                     hueBridge.handleErrors(result);
                     listener.setPollBypass(fadeTime);
+                    scheduleCommandPolling(fadeTime);
                 } catch (Exception e) {
                     listener.unsetPollBypass();
                     handleLightUpdateException(listener, light, stateUpdate, fadeTime, e);
@@ -489,6 +584,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 try {
                     hueBridge.handleErrors(result);
                     setGroupPollBypass(group, fadeTime);
+                    scheduleCommandPolling(fadeTime);
                 } catch (Exception e) {
                     unsetGroupPollBypass(group);
                     handleGroupUpdateException(group, e);
@@ -503,6 +599,27 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         }
     }
 
+    /**
+     * Polls the lights once the fade time of a command has passed, to show the resulting state without waiting for the
+     * next regular poll. Only used by the adaptive polling. The poll is postponed by subsequent commands. It runs the
+     * same light polling as the polling job, so both are serialized by the pollingLock.
+     *
+     * @param fadeTime the fade time of the command in milliseconds
+     */
+    private synchronized void scheduleCommandPolling(long fadeTime) {
+        if (!hueBridgeConfig.isAdaptivePolling()) {
+            return;
+        }
+        ScheduledFuture<?> job = commandPollingJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+        commandPollingJob = scheduler.schedule(() -> {
+            adaptiveLightPolling.requestPoll();
+            lightPollingRunnable.run();
+        }, fadeTime + COMMAND_POLLING_DELAY, TimeUnit.MILLISECONDS);
+    }
+
     private void setGroupPollBypass(FullGroup group, long bypassTime) {
         group.getLightIds().forEach((lightId) -> {
             final LightStatusListener listener = lightStatusListeners.get(lightId);
@@ -590,7 +707,6 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private void startLightPolling() {
         ScheduledFuture<?> job = lightPollingJob;
         if (job == null || job.isCancelled()) {
-            long lightPollingInterval;
             int configPollingInterval = hueBridgeConfig.getPollingInterval();
             if (configPollingInterval < 1) {
                 lightPollingInterval = TimeUnit.SECONDS.toSeconds(10);
@@ -611,6 +727,11 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             job.cancel(true);
         }
         lightPollingJob = null;
+        job = commandPollingJob;
+        if (job != null) {
+            job.cancel(true);
+        }
+        commandPollingJob = null;
     }
 
     private void startSensorPolling() {
@@ -669,6 +790,16 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         stopSensorPolling();
         stopScenePolling();
         if (hueBridge != null) {
+            hueBridge.getFetchStatistics()
+                    .forEach((resource, statistics) -> logger.debug(
+                            "Fetched '{}' {} times, {} unchanged responses were not parsed, {} characters received.",
+                            resource, statistics.getFetched(), statistics.getUnchanged(),
+                            statistics.getReceivedCharacters()));
+            HttpClient.QueueStatistics queueStatistics = hueBridge.getQueueStatistics();
+            logger.debug(
+                    "Sent {} updates, {} were replaced by later ones and {} combined into group updates, average latency {}ms, maximum {}ms.",
+                    queueStatistics.getSent(), queueStatistics.getSuperseded(), queueStatistics.getCombined(),
+                    queueStatistics.getAverageLatency(), queueStatistics.getMaxLatency());
             hueBridge = null;
         }
     }
@@ -716,6 +847,10 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
      */
     public void onConnectionLost() {
         logger.debug("Bridge connection lost. Updating thing status to OFFLINE.");
+        if (hueBridge != null) {
+            // deliver the full state once the connection is resumed
+            hueBridge.resetChangeDetection();
+        }
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "@text/offline.bridge-connection-lost");
     }
 
@@ -914,6 +1049,8 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         final String groupId = groupStatusListener.getGroupId();
         if (!groupStatusListeners.containsKey(groupId)) {
             groupStatusListeners.put(groupId, groupStatusListener);
+            // the adaptive polling might have skipped the groups so far
+            adaptiveLightPolling.requestPoll();
             final FullGroup lastGroupState = lastGroupStates.get(groupId);
             if (lastGroupState != null) {
                 groupStatusListener.onGroupAdded(lastGroupState);
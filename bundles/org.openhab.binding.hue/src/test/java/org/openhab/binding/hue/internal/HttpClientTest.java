@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.HttpClient.CombinedUpdate;
+import org.openhab.binding.hue.internal.HttpClient.Result;
+
+/**
+ * Tests the queue of asynchronous updates of {@link HttpClient}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HttpClientTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final CountDownLatch firstRequest = new CountDownLatch(1);
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private final HttpClient httpClient = new HttpClient() {
+        @Override
+        protected Result doNetwork(String address, String requestMethod, @Nullable String body) {
+            try {
+                // keep the first request pending until the test queued all its updates
+                firstRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            requests.add(address + " " + body);
+            return new Result("[]", 200);
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testSupersededUpdate() throws Exception {
+        httpClient.putAsync("lights/1/state", "{\"on\":true}", 0, scheduler);
+        CompletableFuture<Result> first = httpClient.putAsync("lights/2/state", "{\"on\":true,\"bri\":10}", 0,
+                scheduler);
+        CompletableFuture<Result> second = httpClient.putAsync("lights/2/state", "{\"on\":true,\"bri\":20}", 0,
+                scheduler);
+        // does not set all values of the queued update
+        CompletableFuture<Result> third = httpClient.putAsync("lights/2/state", "{\"bri\":30}", 0, scheduler);
+        firstRequest.countDown();
+
+        third.get(5, TimeUnit.SECONDS);
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(second.isDone(), is(true));
+        assertThat(requests, is(List.of("lights/1/state {\"on\":true}", "lights/2/state {\"on\":true,\"bri\":20}",
+                "lights/2/state {\"bri\":30}")));
+        assertThat(httpClient.getQueueStatistics().getSuperseded(), is(1L));
+    }
+
+    @Test
+    public void testRelativeUpdatesAreNotSuperseded() throws Exception {
+        httpClient.putAsync("lights/1/state", "{\"on\":true}", 0, scheduler);
+        httpClient.putAsync("lights/2/state", "{\"bri_inc\":10}", 0, scheduler);
+        CompletableFuture<Result> last = httpClient.putAsync("lights/2/state", "{\"bri_inc\":10}", 0, scheduler);
+        firstRequest.countDown();
+
+        last.get(5, TimeUnit.SECONDS);
+        assertThat(requests.size(), is(3));
+    }
+
+    @Test
+    public void testCombinedUpdates() throws Exception {
+        httpClient.setUpdateCombiner(addresses -> addresses.containsAll(List.of("lights/2/state", "lights/3/state"))
+                ? new CombinedUpdate("groups/1/action", Set.of("lights/2/state", "lights/3/state"))
+                : null);
+        httpClient.putAsync("lights/1/state", "{\"on\":true}", 0, scheduler);
+        CompletableFuture<Result> light2 = httpClient.putAsync("lights/2/state", "{\"on\":false}", 0, scheduler);
+        CompletableFuture<Result> light4 = httpClient.putAsync("lights/4/state", "{\"on\":true}", 0, scheduler);
+        CompletableFuture<Result> light3 = httpClient.putAsync("lights/3/state", "{\"on\":false}", 0, scheduler);
+        firstRequest.countDown();
+
+        light4.get(5, TimeUnit.SECONDS);
+        assertThat(light2.isDone(), is(true));
+        assertThat(light3.isDone(), is(true));
+        assertThat(requests, is(List.of("lights/1/state {\"on\":true}", "groups/1/action {\"on\":false}",
+                "lights/4/state {\"on\":true}")));
+        assertThat(httpClient.getQueueStatistics().getCombined(), is(1L));
+    }
+
+    @Test
+    public void testCombinedUpdatesKeepOrderPerLight() throws Exception {
+        httpClient.setUpdateCombiner(addresses -> addresses.containsAll(List.of("lights/2/state", "lights/3/state"))
+                ? new CombinedUpdate("groups/1/action", Set.of("lights/2/state", "lights/3/state"))
+                : null);
+        httpClient.putAsync("lights/1/state", "{\"on\":false}", 0, scheduler);
+        httpClient.putAsync("lights/2/state", "{\"on\":true}", 0, scheduler);
+        httpClient.putAsync("lights/3/state", "{\"on\":false,\"bri\":10}", 0, scheduler);
+        // must not be sent with the update of light 2 before the pending update of light 3
+        CompletableFuture<Result> last = httpClient.putAsync("lights/3/state", "{\"on\":true}", 0, scheduler);
+        firstRequest.countDown();
+
+        last.get(5, TimeUnit.SECONDS);
+        assertThat(requests, is(List.of("lights/1/state {\"on\":false}", "lights/2/state {\"on\":true}",
+                "lights/3/state {\"on\":false,\"bri\":10}", "lights/3/state {\"on\":true}")));
+        assertThat(httpClient.getQueueStatistics().getCombined(), is(0L));
+    }
+}
@@ -13,6 +13,8 @@
 package org.openhab.binding.hue.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -68,6 +70,36 @@ public class HueBridgeTest {
         assertThat(scenes.get(2).getId(), is("id2"));
     }
 
+    @Test
+    public void testGetSensorsIfChanged() throws IOException, ApiException {
+        HttpClient mockHttpClient = Mockito.mock(HttpClient.class);
+
+        HueBridge hueBridge = new HueBridge("ip", "baseUrl", "username", Executors.newScheduledThreadPool(1),
+                mockHttpClient);
+
+        String response = "{\"1\": {\"name\": \"sensor1\", \"type\": \"ZLLPresence\"}}";
+        String changedResponse = "{\"1\": {\"name\": \"sensor1\", \"type\": \"ZLLPresence\"}, "
+                + "\"2\": {\"name\": \"sensor2\", \"type\": \"ZLLTemperature\"}}";
+        when(mockHttpClient.get("baseUrl/username/sensors")).thenReturn(new Result(response, 200),
+                new Result(response, 200), new Result(changedResponse, 200), new Result(changedResponse, 200));
+
+        List<FullSensor> sensors = hueBridge.getSensorsIfChanged();
+        assertThat(sensors, is(notNullValue()));
+        assertThat(sensors.size(), is(1));
+        assertThat(hueBridge.getSensorsIfChanged(), is(nullValue()));
+
+        sensors = hueBridge.getSensorsIfChanged();
+        assertThat(sensors, is(notNullValue()));
+        assertThat(sensors.size(), is(2));
+
+        hueBridge.resetChangeDetection();
+        assertThat(hueBridge.getSensorsIfChanged(), is(notNullValue()));
+
+        HueBridge.FetchStatistics statistics = hueBridge.getFetchStatistics().get("sensors");
+        assertThat(statistics.getFetched(), is(4L));
+        assertThat(statistics.getUnchanged(), is(1L));
+    }
+
     private static String createMockResponse(List<Scene> scenes) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("{");
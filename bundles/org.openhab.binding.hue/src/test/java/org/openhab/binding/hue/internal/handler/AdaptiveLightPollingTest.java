@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the backoff of the adaptive light polling, see {@link AdaptiveLightPolling}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdaptiveLightPollingTest {
+    private static final long INTERVAL = 10_000;
+
+    private final AdaptiveLightPolling polling = new AdaptiveLightPolling();
+
+    /**
+     * Runs the polling job once per interval and counts the runs that polled the lights.
+     */
+    private int runPollingJob(long start, int runs, boolean changed) {
+        int polls = 0;
+        for (int run = 0; run < runs; run++) {
+            long now = start + run * INTERVAL;
+            if (polling.isPollDue(now)) {
+                polling.polled(now, INTERVAL, changed);
+                polls++;
+            }
+        }
+        return polls;
+    }
+
+    @Test
+    public void testFirstRunPolls() {
+        assertThat(polling.isPollDue(0), is(true));
+    }
+
+    @Test
+    public void testChangingLightsArePolledEveryRun() {
+        assertThat(runPollingJob(0, 10, true), is(10));
+        assertThat(polling.getIdlePolls(), is(0));
+    }
+
+    @Test
+    public void testIdleLightsBackOff() {
+        polling.polled(0, INTERVAL, true);
+
+        // the interval grows with every poll without changes: 2, 3, 4, 4, ... polling intervals
+        assertThat(polling.isPollDue(INTERVAL), is(true));
+        polling.polled(INTERVAL, INTERVAL, false);
+        assertThat(polling.getIdlePolls(), is(1));
+        assertThat(polling.isPollDue(2 * INTERVAL), is(false));
+        assertThat(polling.isPollDue(3 * INTERVAL), is(true));
+
+        polling.polled(3 * INTERVAL, INTERVAL, false);
+        assertThat(polling.isPollDue(5 * INTERVAL), is(false));
+        assertThat(polling.isPollDue(6 * INTERVAL), is(true));
+
+        polling.polled(6 * INTERVAL, INTERVAL, false);
+        polling.polled(10 * INTERVAL, INTERVAL, false);
+        assertThat(polling.getIdlePolls(), is(AdaptiveLightPolling.MAX_IDLE_POLLING_FACTOR - 1));
+        assertThat(polling.isPollDue(13 * INTERVAL), is(false));
+        assertThat(polling.isPollDue(14 * INTERVAL), is(true));
+    }
+
+    @Test
+    public void testIdlePollsAreLimited() {
+        polling.polled(0, INTERVAL, false);
+        int polls = runPollingJob(INTERVAL, 160, false);
+
+        // polls in the runs 2 and 5, then in every MAX_IDLE_POLLING_FACTOR-th run from run 9 on
+        assertThat(polls, is(2 + (160 - 9) / AdaptiveLightPolling.MAX_IDLE_POLLING_FACTOR + 1));
+    }
+
+    @Test
+    public void testChangeResetsBackoff() {
+        runPollingJob(0, 20, false);
+        long now = 20 * INTERVAL;
+        polling.polled(now, INTERVAL, true);
+
+        assertThat(polling.getIdlePolls(), is(0));
+        assertThat(polling.isPollDue(now + INTERVAL), is(true));
+    }
+
+    @Test
+    public void testRequestedPollIsNotSkipped() {
+        polling.polled(0, INTERVAL, false);
+        polling.polled(INTERVAL, INTERVAL, false);
+        assertThat(polling.isPollDue(2 * INTERVAL), is(false));
+
+        polling.requestPoll();
+        assertThat(polling.isPollDue(2 * INTERVAL), is(true));
+        polling.polled(2 * INTERVAL, INTERVAL, true);
+        assertThat(polling.isPollDue(2 * INTERVAL + 1), is(false));
+    }
+}
@@ -49,6 +49,8 @@ public class CameraConfig {
     private String motionOptions = "";
     private boolean ptzContinuous;
     private int gifPreroll;
+    private int snapshotMaxAge = 1000;
+    private int snapshotIdleTimeout;
 
     public int getOnvifMediaProfile() {
         return onvifMediaProfile;
@@ -130,6 +132,14 @@ public class CameraConfig {
         return updateImageWhen;
     }
 
+    public int getSnapshotMaxAge() {
+        return snapshotMaxAge;
+    }
+
+    public int getSnapshotIdleTimeout() {
+        return snapshotIdleTimeout;
+    }
+
     public int getPollTime() {
         return pollTime;
     }
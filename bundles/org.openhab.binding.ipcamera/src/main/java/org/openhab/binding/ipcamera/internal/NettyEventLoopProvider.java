@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * The {@link NettyEventLoopProvider} holds the Netty event loops shared by all cameras and groups, one for the
+ * connections to the cameras and one for the stream servers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NettyEventLoopProvider {
+    private final EventLoopGroup clientGroup;
+    private final EventLoopGroup serverGroup;
+    private final int clientThreads;
+    private final int serverThreads;
+
+    /**
+     * @param clientThreads threads handling the connections to the cameras, 0 for one per processor
+     * @param serverThreads threads handling the stream servers, 0 for one per processor
+     */
+    public NettyEventLoopProvider(int clientThreads, int serverThreads) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.clientThreads = clientThreads > 0 ? clientThreads : processors;
+        this.serverThreads = serverThreads > 0 ? serverThreads : processors;
+        clientGroup = new NioEventLoopGroup(this.clientThreads, new DefaultThreadFactory("ipcamera-client", true));
+        serverGroup = new NioEventLoopGroup(this.serverThreads, new DefaultThreadFactory("ipcamera-server", true));
+    }
+
+    public EventLoopGroup getClientGroup() {
+        return clientGroup;
+    }
+
+    public EventLoopGroup getServerGroup() {
+        return serverGroup;
+    }
+
+    public Class<? extends SocketChannel> getSocketChannelClass() {
+        return NioSocketChannel.class;
+    }
+
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+        return NioServerSocketChannel.class;
+    }
+
+    public int getThreadCount() {
+        return clientThreads + serverThreads;
+    }
+
+    public void shutdown() {
+        clientGroup.shutdownGracefully(0, 8, TimeUnit.SECONDS);
+        serverGroup.shutdownGracefully(0, 8, TimeUnit.SECONDS);
+    }
+}
@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -58,7 +59,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
     private IpCameraHandler ipCameraHandler;
     private boolean handlingMjpeg = false; // used to remove ctx from group when handler is removed.
     private boolean handlingSnapshotStream = false; // used to remove ctx from group when handler is removed.
-    private byte[] incomingJpeg = new byte[0];
+    private @Nullable CompositeByteBuf incomingJpeg;
     private String whiteList = "";
     private int recievedBytes = 0;
     private boolean updateSnapshot = false;
@@ -118,10 +119,10 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
                             sendFile(ctx, httpRequest.uri(), "image/gif");
                             return;
                         case "/ipcamera.jpg":
-                            if (!ipCameraHandler.snapshotPolling && ipCameraHandler.snapshotUri != "") {
-                                ipCameraHandler.sendHttpGET(ipCameraHandler.snapshotUri);
+                            if (!ipCameraHandler.snapshotPolling) {
+                                ipCameraHandler.requestSnapshot();
                             }
-                            if (ipCameraHandler.currentSnapshot.length == 1) {
+                            if (!ipCameraHandler.hasSnapshot()) {
                                 logger.warn("ipcamera.jpg was requested but there is no jpg in ram to send.");
                                 return;
                             }
@@ -129,6 +130,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
                             return;
                         case "/snapshots.mjpeg":
                             handlingSnapshotStream = true;
+                            ipCameraHandler.requestSnapshot();
                             ipCameraHandler.startSnapshotPolling();
                             ipCameraHandler.setupSnapshotStreaming(true, ctx, false);
                             return;
@@ -138,6 +140,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
                             return;
                         case "/autofps.mjpeg":
                             handlingSnapshotStream = true;
+                            ipCameraHandler.requestSnapshot();
                             ipCameraHandler.setupSnapshotStreaming(true, ctx, true);
                             return;
                         case "/instar":
@@ -177,26 +180,25 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
             }
             if (msg instanceof HttpContent) {
                 HttpContent content = (HttpContent) msg;
-                if (recievedBytes == 0) {
-                    incomingJpeg = new byte[content.content().readableBytes()];
-                    content.content().getBytes(0, incomingJpeg, 0, content.content().readableBytes());
-                } else {
-                    byte[] temp = incomingJpeg;
-                    incomingJpeg = new byte[recievedBytes + content.content().readableBytes()];
-                    System.arraycopy(temp, 0, incomingJpeg, 0, temp.length);
-                    content.content().getBytes(0, incomingJpeg, temp.length, content.content().readableBytes());
+                CompositeByteBuf localJpeg = incomingJpeg;
+                if (localJpeg == null) {
+                    // the chunks are referenced as they arrive instead of being copied into one array
+                    localJpeg = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+                    incomingJpeg = localJpeg;
                 }
-                recievedBytes = incomingJpeg.length;
+                localJpeg.addComponent(true, content.content().retain());
+                recievedBytes = localJpeg.readableBytes();
                 if (content instanceof LastHttpContent) {
                     if (updateSnapshot) {
-                        ipCameraHandler.processSnapshot(incomingJpeg);
+                        ipCameraHandler.processSnapshot(localJpeg);
                     } else if (onvifEvent) {
-                        ipCameraHandler.onvifCamera.eventRecieved(new String(incomingJpeg, StandardCharsets.UTF_8));
+                        ipCameraHandler.onvifCamera.eventRecieved(localJpeg.toString(StandardCharsets.UTF_8));
                     } else { // handles the snapshots that make up mjpeg from rtsp to ffmpeg conversions.
                         if (recievedBytes > 1000) {
-                            ipCameraHandler.sendMjpegFrame(incomingJpeg, ipCameraHandler.mjpegChannelGroup);
+                            ipCameraHandler.sendMjpegFrame(localJpeg, ipCameraHandler.mjpegChannelGroup);
                         }
                     }
+                    releaseIncomingJpeg();
                     recievedBytes = 0;
                 }
             }
@@ -207,21 +209,24 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
 
     private void sendSnapshotImage(ChannelHandlerContext ctx, String contentType) {
         HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
-        ipCameraHandler.lockCurrentSnapshot.lock();
-        try {
-            ByteBuf snapshotData = Unpooled.copiedBuffer(ipCameraHandler.currentSnapshot);
-            response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
-            response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
-            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
-            response.headers().add(HttpHeaderNames.CONTENT_LENGTH, snapshotData.readableBytes());
-            response.headers().add("Access-Control-Allow-Origin", "*");
-            response.headers().add("Access-Control-Expose-Headers", "*");
-            ctx.channel().write(response);
-            ctx.channel().write(snapshotData);
-            ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
-            ctx.channel().writeAndFlush(footerBbuf);
-        } finally {
-            ipCameraHandler.lockCurrentSnapshot.unlock();
+        ByteBuf snapshotData = ipCameraHandler.getSnapshot();
+        response.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
+        response.headers().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
+        response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        response.headers().add(HttpHeaderNames.CONTENT_LENGTH, snapshotData.readableBytes());
+        response.headers().add("Access-Control-Allow-Origin", "*");
+        response.headers().add("Access-Control-Expose-Headers", "*");
+        ctx.channel().write(response);
+        ctx.channel().write(snapshotData);
+        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
+        ctx.channel().writeAndFlush(footerBbuf);
+    }
+
+    private void releaseIncomingJpeg() {
+        CompositeByteBuf localJpeg = incomingJpeg;
+        if (localJpeg != null) {
+            localJpeg.release();
+            incomingJpeg = null;
         }
     }
 
@@ -281,6 +286,7 @@ public class StreamServerHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void handlerRemoved(@Nullable ChannelHandlerContext ctx) {
+        releaseIncomingJpeg();
         if (ctx == null) {
             return;
         }
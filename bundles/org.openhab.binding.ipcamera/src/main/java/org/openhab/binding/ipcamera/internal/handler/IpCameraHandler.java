@@ -23,7 +23,6 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -36,6 +35,8 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -56,6 +57,7 @@ import org.openhab.binding.ipcamera.internal.IpCameraActions;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
+import org.openhab.binding.ipcamera.internal.NettyEventLoopProvider;
 import org.openhab.binding.ipcamera.internal.StreamServerHandler;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.core.library.types.DecimalType;
@@ -79,6 +81,9 @@ import org.slf4j.LoggerFactory;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -87,13 +92,9 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.base64.Base64;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -126,6 +127,8 @@ import io.netty.util.concurrent.GlobalEventExecutor;
 
 @NonNullByDefault
 public class IpCameraHandler extends BaseThingHandler {
+    // ms after which an unanswered snapshot request no longer stops a new one
+    private static final long SNAPSHOT_REQUEST_TIMEOUT = 5000;
     public final Logger logger = LoggerFactory.getLogger(getClass());
     public final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(4);
@@ -137,6 +140,8 @@ public class IpCameraHandler extends BaseThingHandler {
     private final ChannelGroup snapshotMjpegChannelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private final ChannelGroup autoSnapshotMjpegChannelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     public final ChannelGroup openChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final ChannelGroup streamServerChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final NettyEventLoopProvider eventLoopProvider;
     public @Nullable Ffmpeg ffmpegHLS = null;
     public @Nullable Ffmpeg ffmpegRecord = null;
     public @Nullable Ffmpeg ffmpegGIF = null;
@@ -152,8 +157,6 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable Bootstrap mainBootstrap;
     private @Nullable ServerBootstrap serverBootstrap;
 
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup();
-    private EventLoopGroup serversLoopGroup = new NioEventLoopGroup();
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, new HttpMethod("PUT"),
             "");
     private String gifFilename = "ipcamera";
@@ -164,7 +167,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<byte[]>();
+    private LinkedList<ByteBuf> fifoSnapshotBuffer = new LinkedList<ByteBuf>();
     private int snapCount;
     private boolean updateImageChannel = false;
     private boolean updateAutoFps = false;
@@ -181,8 +184,19 @@ public class IpCameraHandler extends BaseThingHandler {
     public String mjpegUri = "";
     private @Nullable ChannelFuture serverFuture = null;
     private Object firstStreamedMsg = new Object();
-    public byte[] currentSnapshot = new byte[] { (byte) 0x00 };
+    // shared by the image channel, all stream server viewers and the GIF preroll buffer, guarded by the lock
+    private ByteBuf currentSnapshot = Unpooled.EMPTY_BUFFER;
     public ReentrantLock lockCurrentSnapshot = new ReentrantLock();
+    private final AtomicLong snapshotFrames = new AtomicLong();
+    private final AtomicLong snapshotBytesCopied = new AtomicLong();
+    // consumers asking within snapshotMaxAge of the last frame share it, only one request to the camera at a time
+    private volatile long snapshotTime;
+    private volatile long snapshotRequestTime;
+    private volatile long lastSnapshotConsumer = System.nanoTime();
+    private final AtomicBoolean snapshotRequestInFlight = new AtomicBoolean();
+    private final AtomicLong snapshotRequestsSaved = new AtomicLong();
+    private final Object snapshotGenerationLock = new Object();
+    private boolean ffmpegSnapshotIdle = false;
     public String rtspUri = "";
     public boolean audioAlarmUpdateSnapshot = false;
     private boolean motionAlarmUpdateSnapshot = false;
@@ -204,7 +218,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private class CommonCameraHandler extends ChannelDuplexHandler {
         private int bytesToRecieve = 0;
         private int bytesAlreadyRecieved = 0;
-        private byte[] incomingJpeg = new byte[0];
+        private @Nullable CompositeByteBuf incomingJpeg;
         private String incomingMessage = "";
         private String contentType = "empty";
         private Object reply = new Object();
@@ -258,11 +272,9 @@ public class IpCameraHandler extends BaseThingHandler {
                                     }
                                 }
                             } else if (contentType.contains("image/jp")) {
-                                if (bytesToRecieve == 0) {
-                                    bytesToRecieve = 768000; // 0.768 Mbyte when no Content-Length is sent
-                                    logger.debug("Camera has no Content-Length header, we have to guess how much RAM.");
-                                }
-                                incomingJpeg = new byte[bytesToRecieve];
+                                releaseIncomingJpeg();
+                                // the received chunks are kept as they are, so no frame size has to be guessed
+                                incomingJpeg = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
                             }
                         }
                     }
@@ -275,12 +287,13 @@ public class IpCameraHandler extends BaseThingHandler {
                     } else {
                         HttpContent content = (HttpContent) msg;
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
-                        if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyRecieved++] = content.content().getByte(i);
-                            }
+                        CompositeByteBuf localJpeg = incomingJpeg;
+                        if (contentType.contains("image/jp") && localJpeg != null) {
+                            localJpeg.addComponent(true, content.content().retain());
+                            bytesAlreadyRecieved = localJpeg.readableBytes();
                             if (content instanceof LastHttpContent) {
-                                processSnapshot(incomingJpeg);
+                                processSnapshot(localJpeg);
+                                releaseIncomingJpeg();
                                 // testing next line and if works need to do a full cleanup of this function.
                                 closeConnection = true;
                                 if (closeConnection) {
@@ -345,6 +358,15 @@ public class IpCameraHandler extends BaseThingHandler {
 
         @Override
         public void handlerRemoved(@Nullable ChannelHandlerContext ctx) {
+            releaseIncomingJpeg();
+        }
+
+        private void releaseIncomingJpeg() {
+            CompositeByteBuf localJpeg = incomingJpeg;
+            if (localJpeg != null) {
+                localJpeg.release();
+                incomingJpeg = null;
+            }
         }
 
         @Override
@@ -396,9 +418,11 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider,
+            NettyEventLoopProvider eventLoopProvider) {
         super(thing);
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.eventLoopProvider = eventLoopProvider;
         if (ipAddress != null) {
             hostIp = ipAddress;
         } else {
@@ -411,6 +435,10 @@ public class IpCameraHandler extends BaseThingHandler {
         return this;
     }
 
+    public NettyEventLoopProvider getEventLoopProvider() {
+        return eventLoopProvider;
+    }
+
     // false clears the stored user/pass hash, true creates the hash
     public boolean setBasicAuth(boolean useBasic) {
         if (!useBasic) {
@@ -504,8 +532,8 @@ public class IpCameraHandler extends BaseThingHandler {
 
         if (mainBootstrap == null) {
             mainBootstrap = new Bootstrap();
-            mainBootstrap.group(mainEventLoopGroup);
-            mainBootstrap.channel(NioSocketChannel.class);
+            mainBootstrap.group(eventLoopProvider.getClientGroup());
+            mainBootstrap.channel(eventLoopProvider.getSocketChannelClass());
             mainBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
             mainBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 4500);
             mainBootstrap.option(ChannelOption.SO_SNDBUF, 1024 * 8);
@@ -611,6 +639,9 @@ public class IpCameraHandler extends BaseThingHandler {
                             }
                             ch.writeAndFlush(request);
                         } else { // an error occured
+                            if (httpRequestURLFull.equals(snapshotUri)) {
+                                snapshotRequestInFlight.set(false);
+                            }
                             cameraCommunicationError(
                                     "Connection Timeout: Check your IP and PORT are correct and the camera can be reached.");
                         }
@@ -618,14 +649,24 @@ public class IpCameraHandler extends BaseThingHandler {
                 });
     }
 
-    public void processSnapshot(byte[] incommingSnapshot) {
+    /**
+     * Makes the given frame the current snapshot. The frame is shared with the viewers and the GIF preroll buffer
+     * without copying it, the caller keeps its own reference and has to release it.
+     *
+     * @param incommingSnapshot the jpg
+     */
+    public void processSnapshot(ByteBuf incommingSnapshot) {
+        snapshotFrames.incrementAndGet();
+        snapshotTime = System.nanoTime();
+        snapshotRequestInFlight.set(false);
         lockCurrentSnapshot.lock();
         try {
-            currentSnapshot = incommingSnapshot;
+            currentSnapshot.release();
+            currentSnapshot = incommingSnapshot.retain();
             if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
+                fifoSnapshotBuffer.add(incommingSnapshot.retain());
                 if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
+                    fifoSnapshotBuffer.removeFirst().release();
                 }
             }
         } finally {
@@ -646,18 +687,48 @@ public class IpCameraHandler extends BaseThingHandler {
         }
 
         if (updateImageChannel) {
-            updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
+            updateImageChannel(incommingSnapshot);
         } else if (firstMotionAlarm || motionAlarmUpdateSnapshot) {
-            updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
+            updateImageChannel(incommingSnapshot);
             firstMotionAlarm = motionAlarmUpdateSnapshot = false;
         } else if (firstAudioAlarm || audioAlarmUpdateSnapshot) {
-            updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
+            updateImageChannel(incommingSnapshot);
             firstAudioAlarm = audioAlarmUpdateSnapshot = false;
         }
     }
 
+    private void updateImageChannel(ByteBuf jpg) {
+        // the image channel is the only consumer which needs its own copy of the frame
+        snapshotBytesCopied.addAndGet(jpg.readableBytes());
+        updateState(CHANNEL_IMAGE, new RawType(ByteBufUtil.getBytes(jpg), "image/jpeg"));
+    }
+
+    public boolean hasSnapshot() {
+        lockCurrentSnapshot.lock();
+        try {
+            return currentSnapshot.isReadable();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+    }
+
+    /**
+     * Returns the current snapshot, sharing its memory with all other consumers.
+     *
+     * @return a view of the current snapshot which has to be released by the caller
+     */
+    public ByteBuf getSnapshot() {
+        lockCurrentSnapshot.lock();
+        try {
+            return currentSnapshot.retainedDuplicate();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+    }
+
     public void stopStreamServer() {
-        serversLoopGroup.shutdownGracefully();
+        // the event loop is shared, so only the channels of this server are closed
+        streamServerChannels.close();
         serverBootstrap = null;
     }
 
@@ -665,15 +736,15 @@ public class IpCameraHandler extends BaseThingHandler {
     public void startStreamServer() {
         if (serverBootstrap == null) {
             try {
-                serversLoopGroup = new NioEventLoopGroup();
                 serverBootstrap = new ServerBootstrap();
-                serverBootstrap.group(serversLoopGroup);
-                serverBootstrap.channel(NioServerSocketChannel.class);
+                serverBootstrap.group(eventLoopProvider.getServerGroup());
+                serverBootstrap.channel(eventLoopProvider.getServerSocketChannelClass());
                 // IP "0.0.0.0" will bind the server to all network connections//
                 serverBootstrap.localAddress(new InetSocketAddress("0.0.0.0", cameraConfig.getServerPort()));
                 serverBootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
+                        streamServerChannels.add(socketChannel);
                         socketChannel.pipeline().addLast("idleStateHandler", new IdleStateHandler(0, 60, 0));
                         socketChannel.pipeline().addLast("HttpServerCodec", new HttpServerCodec());
                         socketChannel.pipeline().addLast("ChunkedWriteHandler", new ChunkedWriteHandler());
@@ -682,6 +753,7 @@ public class IpCameraHandler extends BaseThingHandler {
                 });
                 serverFuture = serverBootstrap.bind().sync();
                 serverFuture.await(4000);
+                streamServerChannels.add(serverFuture.channel());
                 logger.debug("File server for camera at {} has started on port {} for all NIC's.", cameraConfig.getIp(),
                         cameraConfig.getServerPort());
                 updateState(CHANNEL_MJPEG_URL,
@@ -829,17 +901,19 @@ public class IpCameraHandler extends BaseThingHandler {
         ctx.channel().writeAndFlush(response);
     }
 
-    public void sendMjpegFrame(byte[] jpg, ChannelGroup channelGroup) {
+    public void sendMjpegFrame(ByteBuf jpg, ChannelGroup channelGroup) {
+        if (channelGroup.isEmpty()) {
+            return;
+        }
         final String boundary = "thisMjpegStream";
-        ByteBuf imageByteBuf = Unpooled.copiedBuffer(jpg);
-        int length = imageByteBuf.readableBytes();
+        int length = jpg.readableBytes();
         String header = "--" + boundary + "\r\n" + "content-type: image/jpeg" + "\r\n" + "content-length: " + length
                 + "\r\n\r\n";
-        ByteBuf headerBbuf = Unpooled.copiedBuffer(header, 0, header.length(), StandardCharsets.UTF_8);
-        ByteBuf footerBbuf = Unpooled.copiedBuffer("\r\n", 0, 2, StandardCharsets.UTF_8);
-        streamToGroup(headerBbuf, channelGroup, false);
-        streamToGroup(imageByteBuf, channelGroup, false);
-        streamToGroup(footerBbuf, channelGroup, true);
+        // the jpg is referenced, not copied, and the channel group hands out a view of the frame to every viewer
+        CompositeByteBuf frame = ByteBufAllocator.DEFAULT.compositeBuffer(3);
+        frame.addComponents(true, ByteBufUtil.writeAscii(ByteBufAllocator.DEFAULT, header), jpg.retainedDuplicate(),
+                ByteBufUtil.writeAscii(ByteBufAllocator.DEFAULT, "\r\n"));
+        streamToGroup(frame, channelGroup, true);
     }
 
     public void streamToGroup(Object msg, ChannelGroup channelGroup, boolean flush) {
@@ -854,12 +928,12 @@ public class IpCameraHandler extends BaseThingHandler {
         // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
         lockCurrentSnapshot.lock();
         try {
-            for (byte[] foo : fifoSnapshotBuffer) {
+            for (ByteBuf foo : fifoSnapshotBuffer) {
                 File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
                 count++;
                 try {
                     OutputStream fos = new FileOutputStream(file);
-                    fos.write(foo);
+                    foo.getBytes(foo.readerIndex(), fos, foo.readableBytes());
                     fos.close();
                 } catch (FileNotFoundException e) {
                     logger.warn("FileNotFoundException {}", e.getMessage());
@@ -1082,7 +1156,7 @@ public class IpCameraHandler extends BaseThingHandler {
         if (cameraConfig.getUpdateImageWhen().contains("2")) {
             if (!firstMotionAlarm) {
                 if (!snapshotUri.isEmpty()) {
-                    sendHttpGET(snapshotUri);
+                    fetchSnapshot(false);
                 }
                 firstMotionAlarm = true;// reset back to false when the jpg arrives.
             }
@@ -1100,7 +1174,7 @@ public class IpCameraHandler extends BaseThingHandler {
         if (cameraConfig.getUpdateImageWhen().contains("3")) {
             if (!firstAudioAlarm) {
                 if (!snapshotUri.isEmpty()) {
-                    sendHttpGET(snapshotUri);
+                    fetchSnapshot(false);
                 }
                 firstAudioAlarm = true;// reset back to false when the jpg arrives.
             }
@@ -1244,15 +1318,18 @@ public class IpCameraHandler extends BaseThingHandler {
                 case CHANNEL_POLL_IMAGE:
                     if (OnOffType.ON.equals(command)) {
                         if (snapshotUri.isEmpty()) {
+                            lastSnapshotConsumer = System.nanoTime();
+                            ffmpegSnapshotIdle = false;
                             ffmpegSnapshotGeneration = true;
                             setupFfmpegFormat(FFmpegFormat.SNAPSHOT);
                             updateImageChannel = false;
                         } else {
                             updateImageChannel = true;
-                            sendHttpGET(snapshotUri);// Allows this to change Image FPS on demand
+                            fetchSnapshot(false);// Allows this to change Image FPS on demand
                         }
                     } else {
                         Ffmpeg localSnaps = ffmpegSnapshot;
+                        ffmpegSnapshotIdle = false;
                         if (localSnaps != null) {
                             localSnaps.stopConverting();
                             ffmpegSnapshotGeneration = false;
@@ -1499,7 +1576,7 @@ public class IpCameraHandler extends BaseThingHandler {
 
     void snapshotRunnable() {
         // Snapshot should be first to keep consistent time between shots
-        sendHttpGET(snapshotUri);
+        fetchSnapshot(false);
         if (snapCount > 0) {
             if (--snapCount == 0) {
                 setupFfmpegFormat(FFmpegFormat.GIF);
@@ -1507,6 +1584,75 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Asks for a new snapshot on behalf of a consumer like the stream server or a group. The current snapshot is
+     * shared when it is younger than snapshotMaxAge. If FFmpeg creates the snapshots and was stopped because nobody
+     * asked for one, it is started again.
+     */
+    public void requestSnapshot() {
+        lastSnapshotConsumer = System.nanoTime();
+        if (!snapshotUri.isEmpty()) {
+            fetchSnapshot(true);
+            return;
+        }
+        synchronized (snapshotGenerationLock) {
+            if (ffmpegSnapshotIdle) {
+                logger.debug("Snapshot requested for camera {}, starting FFmpeg snapshot creation again.",
+                        cameraConfig.getIp());
+                ffmpegSnapshotIdle = false;
+                ffmpegSnapshotGeneration = true;
+                setupFfmpegFormat(FFmpegFormat.SNAPSHOT);
+            }
+        }
+    }
+
+    /**
+     * Sends a snapshot request to the camera unless one is already in flight.
+     *
+     * @param shareRecent true if a snapshot younger than snapshotMaxAge makes the request unnecessary
+     */
+    private void fetchSnapshot(boolean shareRecent) {
+        long now = System.nanoTime();
+        if (shareRecent && hasSnapshot()
+                && now - snapshotTime < TimeUnit.MILLISECONDS.toNanos(cameraConfig.getSnapshotMaxAge())) {
+            snapshotRequestsSaved.incrementAndGet();
+            return;
+        }
+        // a request without an answer, e.g. due to a lost connection, no longer blocks after the timeout
+        if (!snapshotRequestInFlight.compareAndSet(false, true)
+                && now - snapshotRequestTime < TimeUnit.MILLISECONDS.toNanos(SNAPSHOT_REQUEST_TIMEOUT)) {
+            snapshotRequestsSaved.incrementAndGet();
+            return;
+        }
+        snapshotRequestTime = now;
+        sendHttpGET(snapshotUri);
+    }
+
+    /**
+     * Stops the FFmpeg snapshot creation when no consumer asked for a snapshot within snapshotIdleTimeout and no
+     * feature of the camera depends on a steady supply of snapshots.
+     */
+    private void stopIdleSnapshotGeneration() {
+        int idleTimeout = cameraConfig.getSnapshotIdleTimeout();
+        if (idleTimeout <= 0 || streamingSnapshotMjpeg || streamingAutoFps || cameraConfig.getGifPreroll() > 0
+                || cameraConfig.getUpdateImageWhen().chars().anyMatch(c -> c >= '1' && c <= '5')) {
+            return;
+        }
+        if (System.nanoTime() - lastSnapshotConsumer < TimeUnit.SECONDS.toNanos(idleTimeout)) {
+            return;
+        }
+        synchronized (snapshotGenerationLock) {
+            Ffmpeg localSnaps = ffmpegSnapshot;
+            if (ffmpegSnapshotGeneration && localSnaps != null) {
+                logger.debug("No snapshot was requested from camera {} for {} seconds, stopping FFmpeg snapshots.",
+                        cameraConfig.getIp(), idleTimeout);
+                localSnaps.stopConverting();
+                ffmpegSnapshotGeneration = false;
+                ffmpegSnapshotIdle = true;
+            }
+        }
+    }
+
     public void stopSnapshotPolling() {
         Future<?> localFuture;
         if (!streamingSnapshotMjpeg && cameraConfig.getGifPreroll() == 0
@@ -1551,11 +1697,12 @@ public class IpCameraHandler extends BaseThingHandler {
             updateAutoFps = true;
             if (!snapshotPolling && !ffmpegSnapshotGeneration) {
                 // Dont need to poll if creating from RTSP stream with FFmpeg or we are polling at full rate already.
-                sendHttpGET(snapshotUri);
+                fetchSnapshot(false);
             }
         } else if (!snapshotUri.isEmpty() && !snapshotPolling) {// we need to check camera is still online.
-            sendHttpGET(snapshotUri);
+            fetchSnapshot(true);
         }
+        stopIdleSnapshotGeneration();
         // NOTE: Use lowPriorityRequests if get request is not needed every poll.
         if (!lowPriorityRequests.isEmpty()) {
             if (lowPriorityCounter >= lowPriorityRequests.size()) {
@@ -1613,6 +1760,17 @@ public class IpCameraHandler extends BaseThingHandler {
             logger.debug("There are {} open Channels being tracked.", openChannels.size());
             cleanChannels();
         }
+        logger.trace("Camera at {} has {} open camera channels and {} stream server channels, sharing {} threads.",
+                cameraConfig.getIp(), openChannels.size(), getStreamServerChannelCount(),
+                eventLoopProvider.getThreadCount());
+    }
+
+    public int getOpenChannelCount() {
+        return openChannels.size();
+    }
+
+    public int getStreamServerChannelCount() {
+        return streamServerChannels.size();
     }
 
     @Override
@@ -1711,6 +1869,8 @@ public class IpCameraHandler extends BaseThingHandler {
     public void dispose() {
         isOnline = false;
         snapshotPolling = false;
+        snapshotRequestInFlight.set(false);
+        ffmpegSnapshotIdle = false;
         onvifCamera.disconnect();
         Future<?> localFuture = pollCameraJob;
         if (localFuture != null) {
@@ -1737,6 +1897,7 @@ public class IpCameraHandler extends BaseThingHandler {
         useDigestAuth = false;
         stopStreamServer();
         openChannels.close();
+        releaseSnapshots();
 
         Ffmpeg localFfmpeg = ffmpegHLS;
         if (localFfmpeg != null) {
@@ -1765,6 +1926,30 @@ public class IpCameraHandler extends BaseThingHandler {
         channelTrackingMap.clear();
     }
 
+    private void releaseSnapshots() {
+        lockCurrentSnapshot.lock();
+        try {
+            currentSnapshot.release();
+            currentSnapshot = Unpooled.EMPTY_BUFFER;
+            for (ByteBuf snapshot : fifoSnapshotBuffer) {
+                snapshot.release();
+            }
+            fifoSnapshotBuffer.clear();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+        long frames = snapshotFrames.getAndSet(0);
+        if (frames > 0) {
+            logger.debug("Camera at {} shared {} snapshots, copying {} bytes per snapshot on average.",
+                    cameraConfig.getIp(), frames, snapshotBytesCopied.getAndSet(0) / frames);
+        }
+        long saved = snapshotRequestsSaved.getAndSet(0);
+        if (saved > 0) {
+            logger.debug("Camera at {} was spared {} snapshot requests by sharing recent snapshots.",
+                    cameraConfig.getIp(), saved);
+        }
+    }
+
     public void setStreamServerHandler(StreamServerHandler streamServerHandler2) {
         streamServerHandler = streamServerHandler2;
     }
@@ -26,10 +26,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.rtsp.RtspDecoder;
@@ -50,7 +47,6 @@ import io.netty.handler.timeout.IdleStateHandler;
 public class RtspConnection {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private @Nullable Bootstrap rtspBootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup();
     private IpCameraHandler ipCameraHandler;
     String username, password;
 
@@ -122,8 +118,8 @@ public class RtspConnection {
     public void sendRtspRequest(HttpRequest request) {
         if (rtspBootstrap == null) {
             rtspBootstrap = new Bootstrap();
-            rtspBootstrap.group(mainEventLoopGroup);
-            rtspBootstrap.channel(NioSocketChannel.class);
+            rtspBootstrap.group(ipCameraHandler.getEventLoopProvider().getClientGroup());
+            rtspBootstrap.channel(ipCameraHandler.getEventLoopProvider().getSocketChannelClass());
             rtspBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
             rtspBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 4500);
             rtspBootstrap.option(ChannelOption.SO_SNDBUF, 1024 * 8);
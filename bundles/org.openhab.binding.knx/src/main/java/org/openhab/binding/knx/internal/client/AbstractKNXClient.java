@@ -12,13 +12,17 @@
  */
 package org.openhab.binding.knx.internal.client;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -64,6 +68,7 @@ import tuwien.auto.calimero.process.ProcessListener;
 public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClient {
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int TELEGRAM_STATISTICS_LOG_LIMIT = 10;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
     private final KNXTypeMapper typeHelper = new KNXCoreTypeMapper();
@@ -85,8 +90,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new HashMap<>();
+    private final Map<GroupAddress, AtomicLong> telegramCounters = new ConcurrentHashMap<>();
+    private long telegramCountersSince = System.nanoTime();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -103,21 +111,21 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
-            processEvent("Group Write", e, (listener, source, destination, asdu) -> {
+            processEvent("Group Write", e, true, (listener, source, destination, asdu) -> {
                 listener.onGroupWrite(AbstractKNXClient.this, source, destination, asdu);
             });
         }
 
         @Override
         public void groupReadRequest(ProcessEvent e) {
-            processEvent("Group Read Request", e, (listener, source, destination, asdu) -> {
+            processEvent("Group Read Request", e, false, (listener, source, destination, asdu) -> {
                 listener.onGroupRead(AbstractKNXClient.this, source, destination, asdu);
             });
         }
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
-            processEvent("Group Read Response", e, (listener, source, destination, asdu) -> {
+            processEvent("Group Read Response", e, true, (listener, source, destination, asdu) -> {
                 listener.onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu);
             });
         }
@@ -132,6 +140,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
+        this.readScheduler = new ReadScheduler(readingPause);
     }
 
     public void initialize() {
@@ -224,7 +233,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     @SuppressWarnings("null")
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        logTelegramStatistics();
+        logReadStatistics();
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
@@ -247,18 +258,64 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         return null;
     }
 
-    private void processEvent(String task, ProcessEvent event, ListenerNotification action) {
+    private void processEvent(String task, ProcessEvent event, boolean value, ListenerNotification action) {
         GroupAddress destination = event.getDestination();
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
+        telegramCounters.computeIfAbsent(destination, ga -> new AtomicLong()).incrementAndGet();
+        readScheduler.telegramReceived(destination, value);
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners != null) {
+            for (GroupAddressListener listener : listeners) {
                 knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
             }
         }
     }
 
+    /**
+     * Returns the number of telegrams received per group address since the statistics were last reset.
+     *
+     * @return a map of group addresses to telegram counts
+     */
+    public Map<GroupAddress, Long> getTelegramCounts() {
+        return telegramCounters.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+    }
+
+    private void logTelegramStatistics() {
+        long minutes = Math.max(1, TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - telegramCountersSince));
+        if (logger.isDebugEnabled() && !telegramCounters.isEmpty()) {
+            String busiest = getTelegramCounts().entrySet().stream()
+                    .sorted(Map.Entry.<GroupAddress, Long> comparingByValue().reversed())
+                    .limit(TELEGRAM_STATISTICS_LOG_LIMIT)
+                    .map(entry -> entry.getKey() + "=" + entry.getValue() / minutes + "/min")
+                    .collect(Collectors.joining(", "));
+            logger.debug("Bridge {} received telegrams for {} group addresses, busiest: {}", thingUID,
+                    telegramCounters.size(), busiest);
+        }
+        telegramCounters.clear();
+        telegramCountersSince = System.nanoTime();
+    }
+
+    private void logReadStatistics() {
+        if (logger.isDebugEnabled() && readScheduler.getSentReads() > 0) {
+            logger.debug("Bridge {} sent {} read requests and saved {} (queue depth {}, max. {}, bus load {}/s)",
+                    thingUID, readScheduler.getSentReads(), readScheduler.getSavedReads(),
+                    readScheduler.getQueueDepth(), readScheduler.getMaxQueueDepth(),
+                    String.format("%.1f", readScheduler.getBusLoad()));
+        }
+    }
+
+    /**
+     * Returns the scheduler of the read requests sent to the bus, e.g. to inspect its statistics.
+     *
+     * @return the read scheduler
+     */
+    public ReadScheduler getReadScheduler() {
+        return readScheduler;
+    }
+
     /**
      * Transforms a {@link Type} into a datapoint type value for the KNX bus.
      *
@@ -280,7 +337,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readScheduler.next();
         if (datapoint != null) {
             datapoint.incrementRetries();
             try {
@@ -288,7 +345,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
                 processCommunicator.read(datapoint.getDatapoint());
             } catch (KNXException e) {
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readScheduler.retry(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -368,22 +425,51 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+        readScheduler.schedule(new ReadDatapoint(datapoint, readRetriesLimit));
+    }
+
+    @Override
+    public void readDatapointIfOutdated(Datapoint datapoint, int maxAge) {
+        readScheduler.schedulePeriodic(new ReadDatapoint(datapoint, readRetriesLimit, true), maxAge);
     }
 
     @Override
     public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+        synchronized (listenerGroupAddresses) {
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            Set<GroupAddress> previousGroupAddresses = listenerGroupAddresses.put(listener, groupAddresses);
+            if (previousGroupAddresses != null) {
+                removeFromIndex(listener, previousGroupAddresses);
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+            return previousGroupAddresses == null;
+        }
     }
 
     @Override
     public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+        synchronized (listenerGroupAddresses) {
+            Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+            if (groupAddresses != null) {
+                removeFromIndex(listener, groupAddresses);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private void removeFromIndex(GroupAddressListener listener, Set<GroupAddress> groupAddresses) {
+        for (GroupAddress groupAddress : groupAddresses) {
+            Set<GroupAddressListener> listeners = groupAddressListeners.get(groupAddress);
+            if (listeners != null) {
+                listeners.remove(listener);
+                if (listeners.isEmpty()) {
+                    groupAddressListeners.remove(groupAddress);
+                }
+            }
+        }
     }
 
     @Override
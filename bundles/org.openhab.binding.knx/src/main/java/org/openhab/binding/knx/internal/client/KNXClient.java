@@ -83,6 +83,15 @@ public interface KNXClient {
      */
     void readDatapoint(Datapoint datapoint);
 
+    /**
+     * Schedule the given data point for a periodic, low priority read. The read is skipped if a value for its group
+     * address was received from the bus within the given maximum age.
+     *
+     * @param datapoint the datapoint
+     * @param maxAge the maximum age of a received value in seconds
+     */
+    void readDatapointIfOutdated(Datapoint datapoint, int maxAge);
+
     /**
      * Write a command to the KNX bus.
      *
@@ -24,11 +24,17 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private boolean periodic;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
+        this(datapoint, limit, false);
+    }
+
+    public ReadDatapoint(Datapoint datapoint, int limit, boolean periodic) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.periodic = periodic;
     }
 
     public Datapoint getDatapoint() {
@@ -47,6 +53,14 @@ public class ReadDatapoint {
         return limit;
     }
 
+    public boolean isPeriodic() {
+        return periodic;
+    }
+
+    public void setPeriodic(boolean periodic) {
+        this.periodic = periodic;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link ReadScheduler} decides which datapoint is read from the KNX bus next.
+ *
+ * Outstanding reads are deduplicated per group address. Reads requested at startup or by an explicit refresh are
+ * served before periodic reads, and periodic reads are skipped when a value for the group address has been seen on
+ * the bus recently. The pause between two reads grows with the observed bus load.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+
+    /** telegrams per second which double the pause between two reads */
+    private static final double BUS_LOAD_REFERENCE = 10;
+    private static final int MAX_PACING_FACTOR = 8;
+    private static final long BUS_LOAD_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final int readingPause;
+    private final LongSupplier nanoClock;
+
+    private final Deque<ReadDatapoint> priorityReads = new ArrayDeque<>();
+    private final Deque<ReadDatapoint> periodicReads = new ArrayDeque<>();
+    private final Map<GroupAddress, ReadDatapoint> outstandingReads = new HashMap<>();
+    private final Map<GroupAddress, Long> lastValueReceived = new HashMap<>();
+
+    private long nextReadTime;
+    private long busLoadWindowStart;
+    private int busLoadWindowTelegrams;
+    private double busLoad;
+
+    private long sentReads;
+    private long savedReads;
+    private int maxQueueDepth;
+
+    /**
+     * @param readingPause the minimum pause between two reads in milliseconds
+     */
+    public ReadScheduler(int readingPause) {
+        this(readingPause, System::nanoTime);
+    }
+
+    ReadScheduler(int readingPause, LongSupplier nanoClock) {
+        this.readingPause = readingPause;
+        this.nanoClock = nanoClock;
+        nextReadTime = nanoClock.getAsLong();
+        busLoadWindowStart = nextReadTime;
+    }
+
+    /**
+     * Queues a read which is served before all periodic reads. An outstanding periodic read of the same group
+     * address is promoted instead of queueing a second read.
+     *
+     * @param datapoint the datapoint to read
+     */
+    public synchronized void schedule(ReadDatapoint datapoint) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint outstanding = outstandingReads.get(groupAddress);
+        if (outstanding != null) {
+            savedReads++;
+            if (outstanding.isPeriodic()) {
+                periodicReads.remove(outstanding);
+                outstanding.setPeriodic(false);
+                priorityReads.add(outstanding);
+            }
+            return;
+        }
+        enqueue(datapoint);
+    }
+
+    /**
+     * Queues a periodic read, unless a read of the same group address is already outstanding or a value for it was
+     * received within the given maximum age.
+     *
+     * @param datapoint the datapoint to read
+     * @param maxAge the maximum age of a received value in seconds
+     */
+    public synchronized void schedulePeriodic(ReadDatapoint datapoint, int maxAge) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        Long lastValue = lastValueReceived.get(groupAddress);
+        if (outstandingReads.containsKey(groupAddress)
+                || (lastValue != null && nanoClock.getAsLong() - lastValue < TimeUnit.SECONDS.toNanos(maxAge))) {
+            savedReads++;
+            return;
+        }
+        datapoint.setPeriodic(true);
+        enqueue(datapoint);
+    }
+
+    /**
+     * Queues a failed read again, at the end of the queue it was taken from.
+     *
+     * @param datapoint the datapoint to read
+     */
+    public synchronized void retry(ReadDatapoint datapoint) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (!outstandingReads.containsKey(groupAddress)) {
+            enqueue(datapoint);
+        }
+    }
+
+    private void enqueue(ReadDatapoint datapoint) {
+        outstandingReads.put(datapoint.getDatapoint().getMainAddress(), datapoint);
+        if (datapoint.isPeriodic()) {
+            periodicReads.add(datapoint);
+        } else {
+            priorityReads.add(datapoint);
+        }
+        maxQueueDepth = Math.max(maxQueueDepth, outstandingReads.size());
+    }
+
+    /**
+     * Returns the datapoint to be read now.
+     *
+     * @return the datapoint or {@code null} if there is nothing to read or the bus load requires a longer pause
+     */
+    public synchronized @Nullable ReadDatapoint next() {
+        long now = nanoClock.getAsLong();
+        updateBusLoad(now);
+        if (now - nextReadTime < 0) {
+            return null;
+        }
+        ReadDatapoint datapoint = priorityReads.poll();
+        if (datapoint == null) {
+            datapoint = periodicReads.poll();
+        }
+        if (datapoint != null) {
+            outstandingReads.remove(datapoint.getDatapoint().getMainAddress());
+            sentReads++;
+            // the bus job already waits readingPause between two invocations, only the additional pause is added here
+            double pacingFactor = Math.min(MAX_PACING_FACTOR, busLoad / BUS_LOAD_REFERENCE);
+            nextReadTime = now + (long) (TimeUnit.MILLISECONDS.toNanos(readingPause) * pacingFactor);
+        }
+        return datapoint;
+    }
+
+    /**
+     * Records a telegram seen on the bus. A telegram carrying a value makes an outstanding periodic read of its group
+     * address obsolete.
+     *
+     * @param groupAddress the destination of the telegram
+     * @param value {@code true} if the telegram carries a value, i.e. is a write or a read response
+     */
+    public synchronized void telegramReceived(GroupAddress groupAddress, boolean value) {
+        long now = nanoClock.getAsLong();
+        busLoadWindowTelegrams++;
+        updateBusLoad(now);
+        if (value) {
+            lastValueReceived.put(groupAddress, now);
+            ReadDatapoint outstanding = outstandingReads.get(groupAddress);
+            if (outstanding != null && outstanding.isPeriodic()) {
+                outstandingReads.remove(groupAddress);
+                periodicReads.remove(outstanding);
+                savedReads++;
+            }
+        }
+    }
+
+    private void updateBusLoad(long now) {
+        long elapsed = now - busLoadWindowStart;
+        if (elapsed >= BUS_LOAD_WINDOW) {
+            double telegramsPerSecond = busLoadWindowTelegrams * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            busLoad = (busLoad + telegramsPerSecond) / 2;
+            busLoadWindowTelegrams = 0;
+            busLoadWindowStart = now;
+        }
+    }
+
+    public synchronized void clear() {
+        priorityReads.clear();
+        periodicReads.clear();
+        outstandingReads.clear();
+        lastValueReceived.clear();
+    }
+
+    /**
+     * @return the number of outstanding reads
+     */
+    public synchronized int getQueueDepth() {
+        return outstandingReads.size();
+    }
+
+    /**
+     * @return the highest number of outstanding reads so far
+     */
+    public synchronized int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return the number of reads sent to the bus
+     */
+    public synchronized long getSentReads() {
+        return sentReads;
+    }
+
+    /**
+     * @return the number of reads which were not sent because they were duplicates or obsolete
+     */
+    public synchronized long getSavedReads() {
+        return savedReads;
+    }
+
+    /**
+     * @return the observed bus load in telegrams per second
+     */
+    public synchronized double getBusLoad() {
+        return busLoad;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.binding.knx.internal.KNXTypeMapper;
 import org.openhab.core.library.types.DateTimeType;
@@ -107,6 +108,16 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     /** stores the default KNX DPT to use for each openHAB type */
     private final Map<Class<? extends Type>, String> defaultDptMap;
 
+    /** stores the already parsed main and sub numbers of datapoint type ids */
+    private final Map<String, DptId> dptIdCache = new ConcurrentHashMap<>();
+
+    /**
+     * stores the translators already created for datapoint type ids. Translators keep the last decoded value, so they
+     * are confined to the thread using them. The cache is shared by all mappers, so a thread holds at most one
+     * translator per datapoint type id. The data of a translator is always set before its value is read.
+     */
+    private static final ThreadLocal<Map<String, DPTXlator>> TRANSLATOR_CACHE = ThreadLocal.withInitial(HashMap::new);
+
     public KNXCoreTypeMapper() {
         @SuppressWarnings("unused")
         final List<Class<?>> xlators = Arrays.<Class<?>> asList(DPTXlator1BitControlled.class,
@@ -573,19 +584,16 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     @Override
     public String toDPTValue(Type type, String dptID) {
         DPT dpt;
-        int mainNumber = getMainNumber(dptID);
-        if (mainNumber == -1) {
-            logger.error("toDPTValue couldn't identify mainnumber in dptID: {}", dptID);
-            return null;
-        }
-        int subNumber = getSubNumber(dptID);
-        if (subNumber == -1) {
-            logger.debug("toType: couldn't identify sub number in dptID: {}.", dptID);
+        DptId parsedId = getDptId(dptID);
+        if (parsedId == null) {
+            logger.error("toDPTValue couldn't identify main and/or sub number in dptID: {}", dptID);
             return null;
         }
+        int mainNumber = parsedId.mainNumber;
+        int subNumber = parsedId.subNumber;
 
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
+            DPTXlator translator = getTranslator(mainNumber, dptID);
             dpt = translator.getType();
         } catch (KNXException e) {
             return null;
@@ -673,44 +681,43 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
-            translator.setData(data);
-            String value = translator.getValue();
-
+            DPTXlator translator = getTranslator(datapoint.getMainNumber(), datapoint.getDPT());
             String id = translator.getType().getID();
             logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
 
-            int mainNumber = getMainNumber(id);
-            if (mainNumber == -1) {
-                logger.debug("toType: couldn't identify mainnumber in dptID: {}.", id);
+            DptId parsedId = getDptId(id);
+            if (parsedId == null) {
+                logger.debug("toType: couldn't identify main and/or sub number in dptID: {}.", id);
                 return null;
             }
-            int subNumber = getSubNumber(id);
-            if (subNumber == -1) {
-                logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
-                return null;
+            int mainNumber = parsedId.mainNumber;
+            int subNumber = parsedId.subNumber;
+
+            /*
+             * The most frequent datapoint types are decoded directly from the telegram data, without going through the
+             * translator and its String representation.
+             */
+            if (mainNumber == 1 && data.length > 0) {
+                return toBooleanType(subNumber, (data[0] & 0x01) != 0);
             }
+            Double numericValue = decodeNumericValue(mainNumber, subNumber, data);
+            if (numericValue != null) {
+                Type numericType = toNumericType(id, numericValue);
+                if (numericType != null) {
+                    return numericType;
+                }
+            }
+
+            translator.setData(data);
+            String value = null;
+
             /*
              * Following code section deals with specific mapping of values from KNX to openHAB types were the String
              * received from the DPTXlator is not sufficient to set the openHAB type or has bugs
              */
             switch (mainNumber) {
                 case 1:
-                    DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
-                    switch (subNumber) {
-                        case 8:
-                            return translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
-                        case 9:
-                            return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-                        case 10:
-                            return translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-                        case 19:
-                            return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-                        case 22:
-                            return DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
-                        default:
-                            return translatorBoolean.getValueBoolean() ? OnOffType.ON : OnOffType.OFF;
-                    }
+                    return toBooleanType(subNumber, ((DPTXlatorBoolean) translator).getValueBoolean());
                 case 2:
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -754,7 +761,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                 case 18:
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translatorSceneControl.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     value = String.valueOf(decimalValue);
@@ -817,11 +824,11 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                 return null;
             }
 
-            if (typeClass.equals(PercentType.class)) {
-                return new PercentType(BigDecimal.valueOf(Math.round(translator.getNumericValue())));
+            if (typeClass.equals(PercentType.class) || typeClass.equals(DecimalType.class)) {
+                return toNumericType(id, translator.getNumericValue());
             }
-            if (typeClass.equals(DecimalType.class)) {
-                return new DecimalType(translator.getNumericValue());
+            if (value == null) {
+                value = translator.getValue();
             }
             if (typeClass.equals(StringType.class)) {
                 return StringType.valueOf(value);
@@ -859,6 +866,130 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         return null;
     }
 
+    private Type toBooleanType(int subNumber, boolean value) {
+        switch (subNumber) {
+            case 8:
+                return value ? UpDownType.DOWN : UpDownType.UP;
+            case 9:
+                return value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case 10:
+                return value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case 19:
+                return value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case 22:
+                return value ? DecimalType.valueOf("1") : DecimalType.valueOf("0");
+            default:
+                return value ? OnOffType.ON : OnOffType.OFF;
+        }
+    }
+
+    /**
+     * Converts a numeric value to the openHAB type of the datapoint type
+     *
+     * @param dptId the datapoint type id
+     * @param value the numeric value
+     * @return the type or {@code null} if the datapoint type is not mapped to a numeric openHAB type
+     */
+    private Type toNumericType(String dptId, double value) {
+        Class<? extends Type> typeClass = toTypeClass(dptId);
+        if (PercentType.class.equals(typeClass)) {
+            return new PercentType(BigDecimal.valueOf(Math.round(value)));
+        }
+        if (DecimalType.class.equals(typeClass)) {
+            return new DecimalType(value);
+        }
+        return null;
+    }
+
+    /**
+     * Decodes the numeric value of the most frequently used datapoint types directly from the telegram data, in the
+     * same way the calimero translators do.
+     *
+     * @param mainNumber the main number of the datapoint type
+     * @param subNumber the sub number of the datapoint type
+     * @param data the telegram data
+     * @return the numeric value or {@code null} if the value has to be decoded by the translator
+     */
+    private Double decodeNumericValue(int mainNumber, int subNumber, byte[] data) {
+        switch (mainNumber) {
+            case 5:
+                if (data.length < 1) {
+                    return null;
+                }
+                int unsigned = data[0] & 0xFF;
+                switch (subNumber) {
+                    case 1: // 5.001: Scaling, values: 0...100 %
+                        return unsigned * 100.0 / 255;
+                    case 4: // 5.004: Percent_U8, values: 0...255 %
+                    case 5: // 5.005: DecimalFactor, values: 0...255
+                    case 6: // 5.006: Tariff, values: 0...254
+                    case 10: // 5.010: Value_1_Ucount, values: 0...255
+                        return (double) unsigned;
+                    default:
+                        return null;
+                }
+            case 9:
+                if (data.length < 2) {
+                    return null;
+                }
+                // DPT bits high byte: MEEEEMMM, low byte: MMMMMMMM
+                if ((data[0] & 0xFF) == 0x7F && (data[1] & 0xFF) == 0xFF) {
+                    // 0x7FFF is reserved for invalid data, leave its handling to the translator
+                    return null;
+                }
+                int mantissa = (((data[0] & 0x80) << 24) | ((data[0] & 0x07) << 28) | ((data[1] & 0xFF) << 20)) >> 20;
+                int exponent = (data[0] & 0x78) >> 3;
+                return (1 << exponent) * mantissa * 0.01;
+            case 14:
+                if (data.length < 4) {
+                    return null;
+                }
+                float f = Float.intBitsToFloat(((data[0] & 0xFF) << 24) | ((data[1] & 0xFF) << 16)
+                        | ((data[2] & 0xFF) << 8) | (data[3] & 0xFF));
+                return Float.isFinite(f) ? Double.valueOf(f) : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the translator for the given datapoint type id, reusing the one already created by the calling thread.
+     *
+     * @param mainNumber the main number of the datapoint type or 0 if it should be derived from the id
+     * @param dptId the datapoint type id
+     * @return the translator
+     * @throws KNXException if no translator is available for the datapoint type
+     */
+    private DPTXlator getTranslator(int mainNumber, String dptId) throws KNXException {
+        Map<String, DPTXlator> translators = TRANSLATOR_CACHE.get();
+        DPTXlator translator = translators.get(dptId);
+        if (translator == null) {
+            translator = TranslatorTypes.createTranslator(mainNumber, dptId);
+            translators.put(dptId, translator);
+        }
+        return translator;
+    }
+
+    /**
+     * Retrieves main and sub number from a DPT ID such as "14.001", parsing it only once
+     *
+     * @param dptID String with DPT ID
+     * @return the parsed id or {@code null} if main or sub number couldn't be identified
+     */
+    private DptId getDptId(String dptID) {
+        DptId parsedId = dptIdCache.get(dptID);
+        if (parsedId == null) {
+            int mainNumber = getMainNumber(dptID);
+            int subNumber = getSubNumber(dptID);
+            if (mainNumber == -1 || subNumber == -1) {
+                return null;
+            }
+            parsedId = new DptId(mainNumber, subNumber);
+            dptIdCache.put(dptID, parsedId);
+        }
+        return parsedId;
+    }
+
     /**
      * Converts a datapoint type id into an openHAB type class
      *
@@ -869,7 +1000,8 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     public Class<? extends Type> toTypeClass(String dptId) {
         Class<? extends Type> ohClass = dptTypeMap.get(dptId);
         if (ohClass == null) {
-            int mainNumber = getMainNumber(dptId);
+            DptId parsedId = getDptId(dptId);
+            int mainNumber = parsedId != null ? parsedId.mainNumber : getMainNumber(dptId);
             if (mainNumber == -1) {
                 logger.debug("Couldn't convert KNX datapoint type id into openHAB type class for dptId: {}.", dptId);
                 return null;
@@ -1019,4 +1151,14 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         return percent.toBigDecimal().multiply(BigDecimal.valueOf(255))
                 .divide(BigDecimal.valueOf(100), 2, BigDecimal.ROUND_HALF_UP).intValue();
     }
+
+    private static class DptId {
+        private final int mainNumber;
+        private final int subNumber;
+
+        private DptId(int mainNumber, int subNumber) {
+            this.mainNumber = mainNumber;
+            this.subNumber = subNumber;
+        }
+    }
 }
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ * Tests the order, the deduplication and the cancellation of reads by the {@link ReadScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadSchedulerTest {
+    private static final GroupAddress ADDRESS_A = new GroupAddress(1, 2, 3);
+    private static final GroupAddress ADDRESS_B = new GroupAddress(1, 2, 4);
+    private static final GroupAddress ADDRESS_C = new GroupAddress(1, 2, 5);
+    private static final GroupAddress OTHER_ADDRESS = new GroupAddress(4, 5, 6);
+    private static final int MAX_AGE = 60;
+
+    private long now = 0;
+    private final ReadScheduler scheduler = new ReadScheduler(0, () -> now);
+
+    @Test
+    public void priorityReadsBeforePeriodicReads() {
+        scheduler.schedulePeriodic(read(ADDRESS_A, true), MAX_AGE);
+        scheduler.schedulePeriodic(read(ADDRESS_B, true), MAX_AGE);
+        scheduler.schedule(read(ADDRESS_C, false));
+
+        assertNext(ADDRESS_C);
+        assertNext(ADDRESS_A);
+        assertNext(ADDRESS_B);
+        assertNull(scheduler.next());
+        assertEquals(3, scheduler.getSentReads());
+    }
+
+    @Test
+    public void duplicateReadsAreDropped() {
+        scheduler.schedule(read(ADDRESS_A, false));
+        scheduler.schedule(read(ADDRESS_A, false));
+        scheduler.schedulePeriodic(read(ADDRESS_A, true), MAX_AGE);
+
+        assertEquals(1, scheduler.getQueueDepth());
+        assertEquals(2, scheduler.getSavedReads());
+        assertNext(ADDRESS_A);
+        assertNull(scheduler.next());
+
+        // once sent, the group address can be read again
+        scheduler.schedule(read(ADDRESS_A, false));
+        assertNext(ADDRESS_A);
+    }
+
+    @Test
+    public void outstandingPeriodicReadIsPromoted() {
+        scheduler.schedulePeriodic(read(ADDRESS_A, true), MAX_AGE);
+        scheduler.schedulePeriodic(read(ADDRESS_B, true), MAX_AGE);
+        scheduler.schedule(read(ADDRESS_B, false));
+
+        assertEquals(2, scheduler.getQueueDepth());
+        ReadDatapoint datapoint = assertNext(ADDRESS_B);
+        assertFalse(datapoint.isPeriodic());
+        assertNext(ADDRESS_A);
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    public void retryIsQueuedOnce() {
+        scheduler.schedule(read(ADDRESS_A, false));
+        ReadDatapoint datapoint = assertNext(ADDRESS_A);
+
+        scheduler.retry(datapoint);
+        scheduler.retry(datapoint);
+        assertEquals(1, scheduler.getQueueDepth());
+        assertSame(datapoint, scheduler.next());
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    public void receivedValueCancelsPeriodicRead() {
+        scheduler.schedulePeriodic(read(ADDRESS_A, true), MAX_AGE);
+        scheduler.schedulePeriodic(read(ADDRESS_B, true), MAX_AGE);
+
+        scheduler.telegramReceived(ADDRESS_A, true);
+        // a read request of another device carries no value
+        scheduler.telegramReceived(ADDRESS_B, false);
+
+        assertEquals(1, scheduler.getQueueDepth());
+        assertEquals(1, scheduler.getSavedReads());
+        assertNext(ADDRESS_B);
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    public void receivedValueKeepsPriorityRead() {
+        scheduler.schedule(read(ADDRESS_A, false));
+        scheduler.telegramReceived(ADDRESS_A, true);
+
+        assertNext(ADDRESS_A);
+    }
+
+    @Test
+    public void periodicReadIsSkippedAfterRecentValue() {
+        scheduler.telegramReceived(ADDRESS_A, true);
+
+        now += TimeUnit.SECONDS.toNanos(MAX_AGE - 1);
+        scheduler.schedulePeriodic(read(ADDRESS_A, true), MAX_AGE);
+        assertEquals(0, scheduler.getQueueDepth());
+        assertEquals(1, scheduler.getSavedReads());
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        scheduler.schedulePeriodic(read(ADDRESS_A, true), MAX_AGE);
+        assertNext(ADDRESS_A);
+    }
+
+    @Test
+    public void clearCancelsAllReads() {
+        scheduler.schedule(read(ADDRESS_A, false));
+        scheduler.schedulePeriodic(read(ADDRESS_B, true), MAX_AGE);
+        scheduler.telegramReceived(ADDRESS_C, true);
+
+        scheduler.clear();
+
+        assertEquals(0, scheduler.getQueueDepth());
+        assertNull(scheduler.next());
+        // the received values are forgotten as well
+        scheduler.schedulePeriodic(read(ADDRESS_C, true), MAX_AGE);
+        assertNext(ADDRESS_C);
+    }
+
+    @Test
+    public void busLoadDelaysReads() {
+        ReadScheduler pacedScheduler = new ReadScheduler(100, () -> now);
+        for (int i = 0; i < 39; i++) {
+            pacedScheduler.telegramReceived(OTHER_ADDRESS, false);
+        }
+        now += TimeUnit.SECONDS.toNanos(1);
+        pacedScheduler.telegramReceived(OTHER_ADDRESS, false);
+        // average of the previous load (none) and the 40 telegrams per second of the last window
+        assertEquals(20, pacedScheduler.getBusLoad(), 0.001);
+
+        pacedScheduler.schedule(read(ADDRESS_A, false));
+        pacedScheduler.schedule(read(ADDRESS_B, false));
+        assertNotNull(pacedScheduler.next());
+
+        // twice the reading pause
+        now += TimeUnit.MILLISECONDS.toNanos(199);
+        assertNull(pacedScheduler.next());
+        now += TimeUnit.MILLISECONDS.toNanos(1);
+        assertNotNull(pacedScheduler.next());
+    }
+
+    private ReadDatapoint assertNext(GroupAddress expected) {
+        ReadDatapoint datapoint = scheduler.next();
+        if (datapoint == null) {
+            throw new AssertionError("No read of " + expected);
+        }
+        assertEquals(expected, datapoint.getDatapoint().getMainAddress());
+        return datapoint;
+    }
+
+    private static ReadDatapoint read(GroupAddress groupAddress, boolean periodic) {
+        return new ReadDatapoint(new CommandDP(groupAddress, "test", 0, "1.001"), 3, periodic);
+    }
+}
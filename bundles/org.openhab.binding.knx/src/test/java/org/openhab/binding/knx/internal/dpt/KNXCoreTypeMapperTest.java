@@ -14,8 +14,20 @@ package org.openhab.binding.knx.internal.dpt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.Type;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
 
 /**
  *
@@ -29,4 +41,81 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testToType_booleanDecodedFromData() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(OnOffType.ON, mapper.toType(datapoint("1.001"), new byte[] { 0x01 }));
+        assertEquals(OnOffType.OFF, mapper.toType(datapoint("1.001"), new byte[] { 0x00 }));
+        assertEquals(UpDownType.DOWN, mapper.toType(datapoint("1.008"), new byte[] { 0x01 }));
+        assertEquals(new DecimalType(1), mapper.toType(datapoint("1.022"), new byte[] { 0x01 }));
+    }
+
+    @Test
+    public void testToType_scalingDecodedLikeTranslator() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        for (int i = 0; i <= 0xFF; i++) {
+            byte[] data = new byte[] { (byte) i };
+            assertEquals(new PercentType(BigDecimal.valueOf(Math.round(translate("5.001", data)))),
+                    mapper.toType(datapoint("5.001"), data));
+            assertEquals(new DecimalType(translate("5.010", data)), mapper.toType(datapoint("5.010"), data));
+        }
+    }
+
+    @Test
+    public void testToType_twoByteFloatDecodedLikeTranslator() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        for (int i = 0; i <= 0xFFFF; i += 7) {
+            if (i == 0x7FFF) {
+                continue;
+            }
+            byte[] data = new byte[] { (byte) (i >> 8), (byte) i };
+            assertEquals(new DecimalType(translate("9.001", data)), mapper.toType(datapoint("9.001"), data));
+        }
+        // captured telegrams: 21.5 °C, -3.2 °C, 1.03 m/s and 849.92 lux
+        for (String hex : new String[] { "0C33", "86C0", "0067", "3530" }) {
+            byte[] data = new byte[] { (byte) Integer.parseInt(hex.substring(0, 2), 16),
+                    (byte) Integer.parseInt(hex.substring(2), 16) };
+            assertEquals(new DecimalType(translate("9.001", data)), mapper.toType(datapoint("9.001"), data));
+        }
+    }
+
+    @Test
+    public void testToType_fourByteFloatDecodedLikeTranslator() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        for (float f : new float[] { 0f, 1.5f, -273.15f, 3.14159e20f, 1e-5f, 230.4f }) {
+            int bits = Float.floatToIntBits(f);
+            byte[] data = new byte[] { (byte) (bits >> 24), (byte) (bits >> 16), (byte) (bits >> 8), (byte) bits };
+            assertEquals(new DecimalType(translate("14.056", data)), mapper.toType(datapoint("14.056"), data));
+        }
+    }
+
+    @Test
+    public void testToType_translatorReusedForSubsequentTelegrams() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(new DecimalType(1), mapper.toType(datapoint("17.001"), new byte[] { 0x01 }));
+        assertEquals(new DecimalType(5), mapper.toType(datapoint("17.001"), new byte[] { 0x05 }));
+    }
+
+    @Test
+    public void testToType_numericValueWithoutTypeClass() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper() {
+            @Override
+            public Class<? extends Type> toTypeClass(String dptId) {
+                return null;
+            }
+        };
+        assertNull(mapper.toType(datapoint("9.001"), new byte[] { 0x0C, 0x1A }));
+        assertNull(mapper.toType(datapoint("5.001"), new byte[] { (byte) 0x80 }));
+    }
+
+    private static CommandDP datapoint(String dpt) {
+        return new CommandDP(new GroupAddress(1, 2, 3), "test", 0, dpt);
+    }
+
+    private static double translate(String dpt, byte[] data) throws KNXException {
+        DPTXlator translator = TranslatorTypes.createTranslator(0, dpt);
+        translator.setData(data);
+        return translator.getNumericValue();
+    }
 }
@@ -31,6 +31,8 @@ public class NetworkBindingConfiguration {
 
     public Boolean allowSystemPings = true;
     public Boolean allowDHCPlisten = true;
+    // Disabled by default, as an outdated neighbour table entry may delay the detection of a leaving device
+    public boolean allowPassiveDetection = false;
     public BigDecimal cacheDeviceStateTimeInMS = BigDecimal.valueOf(2000);
     public String arpPingToolPath = "arping";
     public @NonNullByDefault({}) ArpPingUtilEnum arpPingUtilMethod;
@@ -42,6 +44,7 @@ public class NetworkBindingConfiguration {
     public void update(NetworkBindingConfiguration newConfiguration) {
         this.allowSystemPings = newConfiguration.allowSystemPings;
         this.allowDHCPlisten = newConfiguration.allowDHCPlisten;
+        this.allowPassiveDetection = newConfiguration.allowPassiveDetection;
         this.cacheDeviceStateTimeInMS = newConfiguration.cacheDeviceStateTimeInMS;
         this.arpPingToolPath = newConfiguration.arpPingToolPath;
         this.preferResponseTimeAsLatency = newConfiguration.preferResponseTimeAsLatency;
@@ -63,8 +66,8 @@ public class NetworkBindingConfiguration {
     @Override
     public String toString() {
         return "NetworkBindingConfiguration{" + "allowSystemPings=" + allowSystemPings + ", allowDHCPlisten="
-                + allowDHCPlisten + ", cacheDeviceStateTimeInMS=" + cacheDeviceStateTimeInMS + ", arpPingToolPath='"
-                + arpPingToolPath + '\'' + ", arpPingUtilMethod=" + arpPingUtilMethod + ", preferResponseTimeAsLatency="
-                + preferResponseTimeAsLatency + '}';
+                + allowDHCPlisten + ", allowPassiveDetection=" + allowPassiveDetection + ", cacheDeviceStateTimeInMS="
+                + cacheDeviceStateTimeInMS + ", arpPingToolPath='" + arpPingToolPath + '\'' + ", arpPingUtilMethod="
+                + arpPingUtilMethod + ", preferResponseTimeAsLatency=" + preferResponseTimeAsLatency + '}';
     }
 }
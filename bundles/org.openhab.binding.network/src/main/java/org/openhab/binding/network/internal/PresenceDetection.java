@@ -18,16 +18,16 @@ import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.PresenceDetectionEngine.DetectionExecutor;
 import org.openhab.binding.network.internal.dhcp.DHCPListenService;
 import org.openhab.binding.network.internal.dhcp.IPRequestReceivedCallback;
 import org.openhab.binding.network.internal.toberemoved.cache.ExpiringCacheAsync;
@@ -51,12 +51,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     public static final double NOT_REACHABLE = -1;
     public static final int DESTINATION_TTL = 300 * 1000; // in ms, 300 s
+    // the operating system may keep outdated neighbour entries, they are checked actively after this time
+    public static final int MAX_PASSIVE_DETECTION_TIME = 300 * 1000; // in ms, 300 s
 
     NetworkUtils networkUtils = new NetworkUtils();
+    PresenceDetectionEngine engine = PresenceDetectionEngine.getInstance();
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
     private boolean useDHCPsniffing = false;
+    private boolean usePassiveDetection = false;
     private String arpPingState = "Disabled";
     private String ipPingState = "Disabled";
     protected String arpPingUtilPath = "";
@@ -68,6 +72,8 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private long refreshIntervalInMS = 60000;
     private int timeoutInMS = 5000;
     private long lastSeenInMS;
+    private long lastDhcpRequestInMS;
+    private long lastActiveDetectionInMS;
 
     private @NonNullByDefault({}) String hostname;
     private @NonNullByDefault({}) ExpiringCache<@Nullable InetAddress> destination;
@@ -144,6 +150,18 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.useDHCPsniffing = enable;
     }
 
+    /**
+     * Enables the passive presence detection. Active checks are skipped, if there was a DHCP request of the
+     * device within the refresh interval or the device has an entry in the neighbour (ARP) table of the
+     * operating system. Not used for TCP service devices, the presence of a device does not tell if the
+     * service is available.
+     *
+     * @param enable Enable or disable the passive presence detection
+     */
+    public void setUsePassiveDetection(boolean enable) {
+        this.usePassiveDetection = enable;
+    }
+
     public void setRefreshInterval(long refreshInterval) {
         this.refreshIntervalInMS = refreshInterval;
     }
@@ -279,14 +297,20 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(callback);
     }
 
+    /**
+     * Returns the executor for the checks of a presence detection. The checks are run by the shared thread pool
+     * of the {@link PresenceDetectionEngine}.
+     *
+     * @param threadCount The number of checks of the presence detection
+     */
     public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
+        return engine.newDetectionExecutor();
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and
-     * TCP connection attempts simultaneously. A fixed thread pool will be created with as many
-     * thread as necessary to perform all tests at once.
+     * TCP connection attempts simultaneously. The checks are run by the shared thread pool
+     * of the {@link PresenceDetectionEngine}.
      *
      * This is a NO-OP, if there is already an ongoing detection or if the cached value
      * is not expired yet.
@@ -311,6 +335,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return false;
         }
 
+        if (usePassiveDetection && tcpPorts.isEmpty() && detectPassively()) {
+            return true;
+        }
+
         Set<String> interfaceNames = null;
 
         currentCheck = 0;
@@ -329,14 +357,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         final ExecutorService executorService = getThreadsFor(detectionChecks);
         this.executorService = executorService;
-
-        for (Integer tcpPort : tcpPorts) {
-            executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + String.valueOf(tcpPort));
-                performServicePing(tcpPort);
-                checkIfFinished();
-            });
-        }
+        lastActiveDetectionInMS = System.currentTimeMillis();
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
         // each own executor for each network interface for other tools
@@ -370,13 +391,84 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             });
         }
 
+        // TCP connection attempts do not block a thread, the tasks only start them
+        for (Integer tcpPort : tcpPorts) {
+            executorService.execute(() -> performServicePing(tcpPort));
+        }
+
         if (waitForDetectionToFinish) {
             waitForPresenceDetection();
+        } else {
+            scheduleDetectionTimeout(executorService);
         }
 
         return true;
     }
 
+    /**
+     * Looks for passive evidence of the device presence: a DHCP request within the refresh interval or
+     * an entry in the neighbour table. Active checks are still performed at least every
+     * {@link #MAX_PASSIVE_DETECTION_TIME}, so an outdated neighbour entry does not keep the device present.
+     *
+     * @return true if the device was detected passively and the final result was submitted
+     */
+    private boolean detectPassively() {
+        long now = System.currentTimeMillis();
+        if (now - lastActiveDetectionInMS >= MAX_PASSIVE_DETECTION_TIME) {
+            return false;
+        }
+        PresenceDetectionType type;
+        if (now - lastDhcpRequestInMS < refreshIntervalInMS) {
+            type = PresenceDetectionType.DHCP_REQUEST;
+        } else {
+            InetAddress destinationAddress = destination.getValue();
+            if (destinationAddress == null
+                    || !engine.getNeighbourTable().contains(destinationAddress.getHostAddress())) {
+                return false;
+            }
+            type = PresenceDetectionType.NEIGHBOUR_TABLE;
+        }
+        logger.trace("Presence of {} detected passively by {}", hostname, type);
+        engine.getStatistics().passiveDetection();
+        submitPassiveResult(type);
+        return true;
+    }
+
+    private synchronized void submitPassiveResult(PresenceDetectionType type) {
+        if (executorService != null) {
+            // an active detection was started meanwhile
+            return;
+        }
+        PresenceDetectionValue v = updateReachableValue(type, 0);
+        updateListener.partialDetectionResult(v);
+        submitResult();
+    }
+
+    /**
+     * Submits the final result, if the checks of the presence detection did not finish in time.
+     * Checks still waiting for a thread of the shared pool get another timeout period.
+     */
+    private void scheduleDetectionTimeout(ExecutorService service) {
+        engine.schedule(() -> {
+            if (hasQueuedChecks(service)) {
+                scheduleDetectionTimeout(service);
+            } else {
+                detectionTimedOut(service);
+            }
+        }, timeoutInMS + 100);
+    }
+
+    private synchronized void detectionTimedOut(ExecutorService service) {
+        if (executorService == service) {
+            logger.debug("Presence detection for {} did not finish in time", hostname);
+            submitFinalResult();
+        }
+    }
+
+    private boolean hasQueuedChecks(ExecutorService service) {
+        return service instanceof DetectionExecutor && ((DetectionExecutor) service).hasQueuedChecks();
+    }
+
     /**
      * Calls updateListener.finalDetectionResult() with a final result value.
      * Safe to be called from different threads. After a call to this method,
@@ -394,6 +486,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         executorService = null;
         detectionChecks = 0;
 
+        submitResult();
+    }
+
+    /**
+     * Submits the final result of the presence detection. Must be called synchronized.
+     */
+    private void submitResult() {
         PresenceDetectionValue v;
 
         // The cache will be expired by now if cache_time < timeoutInMS. But the device might be actually reachable.
@@ -421,6 +520,19 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * Thread safe.
      */
     private synchronized void checkIfFinished() {
+        checkIfFinished(executorService);
+    }
+
+    /**
+     * Same as {@link #checkIfFinished()} for checks completing asynchronously. The check is not counted,
+     * if the presence detection it belongs to already finished.
+     *
+     * @param service The executor of the presence detection the check belongs to
+     */
+    private synchronized void checkIfFinished(@Nullable ExecutorService service) {
+        if (service == null || service != executorService) {
+            return;
+        }
         currentCheck += 1;
         if (currentCheck < detectionChecks) {
             return;
@@ -439,7 +551,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
         try {
             // We may get interrupted here by cancelRefreshJob().
-            service.awaitTermination(timeoutInMS + 100, TimeUnit.MILLISECONDS);
+            // Checks waiting for a thread of the shared pool have not used up their timeout yet.
+            while (!service.awaitTermination(timeoutInMS + 100, TimeUnit.MILLISECONDS) && hasQueuedChecks(service)) {
+                logger.trace("Presence detection for {} is waiting for a free thread", hostname);
+            }
             submitFinalResult();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // Reset interrupt flag
@@ -473,24 +588,36 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         return v;
     }
 
+    /**
+     * Starts a tcp connection attempt on the given port. The check is finished when the
+     * connection attempt completes, without blocking a thread meanwhile.
+     *
+     * @param tcpPort The tcp port
+     */
     protected void performServicePing(int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
-        try {
-            InetAddress destinationAddress = destination.getValue();
-            if (destinationAddress != null) {
-                networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeoutInMS).ifPresent(o -> {
-                    if (o.isSuccess()) {
-                        PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
-                                getLatency(o, preferResponseTimeAsLatency));
-                        v.addReachableTcpService(tcpPort);
-                        updateListener.partialDetectionResult(v);
-                    }
-                });
-            }
-        } catch (IOException e) {
-            // This should not happen and might be a user configuration issue, we log a warning message therefore.
-            logger.warn("Could not create a socket connection", e);
+        ExecutorService service = executorService;
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            checkIfFinished(service);
+            return;
         }
+        networkUtils.servicePingAsync(destinationAddress.getHostAddress(), tcpPort, timeoutInMS)
+                .whenCompleteAsync((o, e) -> {
+                    if (e != null) {
+                        // This should not happen and might be a user configuration issue
+                        logger.warn("Could not create a socket connection", e);
+                    } else {
+                        engine.getStatistics().probe(PresenceDetectionType.TCP_CONNECTION, Optional.of(o));
+                        if (o.isSuccess()) {
+                            PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
+                                    getLatency(o, preferResponseTimeAsLatency));
+                            v.addReachableTcpService(tcpPort);
+                            updateListener.partialDetectionResult(v);
+                        }
+                    }
+                    checkIfFinished(service);
+                }, engine.getExecutor());
     }
 
     /**
@@ -513,14 +640,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
                 Thread.sleep(50);
             }
 
-            networkUtils.nativeARPPing(arpPingMethod, arpPingUtilPath, interfaceName,
-                    destinationAddress.getHostAddress(), timeoutInMS).ifPresent(o -> {
-                        if (o.isSuccess()) {
-                            PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ARP_PING,
-                                    getLatency(o, preferResponseTimeAsLatency));
-                            updateListener.partialDetectionResult(v);
-                        }
-                    });
+            Optional<PingResult> result = networkUtils.nativeARPPing(arpPingMethod, arpPingUtilPath, interfaceName,
+                    destinationAddress.getHostAddress(), timeoutInMS);
+            engine.getStatistics().probe(PresenceDetectionType.ARP_PING, result);
+            result.ifPresent(o -> {
+                if (o.isSuccess()) {
+                    PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ARP_PING,
+                            getLatency(o, preferResponseTimeAsLatency));
+                    updateListener.partialDetectionResult(v);
+                }
+            });
         } catch (IOException e) {
             logger.trace("Failed to execute an arp ping for ip {}", hostname, e);
         } catch (InterruptedException ignored) {
@@ -542,7 +671,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return;
         }
 
-        networkUtils.javaPing(timeoutInMS, destinationAddress).ifPresent(o -> {
+        Optional<PingResult> result = networkUtils.javaPing(timeoutInMS, destinationAddress);
+        engine.getStatistics().probe(PresenceDetectionType.ICMP_PING, result);
+        result.ifPresent(o -> {
             if (o.isSuccess()) {
                 PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
                         getLatency(o, preferResponseTimeAsLatency));
@@ -559,7 +690,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
                 return;
             }
 
-            networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(), timeoutInMS).ifPresent(o -> {
+            Optional<PingResult> result = networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(),
+                    timeoutInMS);
+            engine.getStatistics().probe(PresenceDetectionType.ICMP_PING, result);
+            result.ifPresent(o -> {
                 if (o.isSuccess()) {
                     PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
                             getLatency(o, preferResponseTimeAsLatency));
@@ -588,22 +722,22 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     @Override
     public void dhcpRequestReceived(String ipAddress) {
+        lastDhcpRequestInMS = System.currentTimeMillis();
         PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.DHCP_REQUEST, 0);
         updateListener.partialDetectionResult(v);
     }
 
     /**
      * Start/Restart a fixed scheduled runner to update the devices reach-ability state.
-     *
-     * @param scheduledExecutorService A scheduler to run pings periodically.
+     * The runner is scheduled by the {@link PresenceDetectionEngine}, which staggers the
+     * devices across the refresh interval.
      */
-    public void startAutomaticRefresh(ScheduledExecutorService scheduledExecutorService) {
+    public void startAutomaticRefresh() {
         ScheduledFuture<?> future = refreshJob;
         if (future != null && !future.isDone()) {
             future.cancel(true);
         }
-        refreshJob = scheduledExecutorService.scheduleWithFixedDelay(() -> performPresenceDetection(true), 0,
-                refreshIntervalInMS, TimeUnit.MILLISECONDS);
+        refreshJob = engine.scheduleRefresh(() -> performPresenceDetection(false), refreshIntervalInMS);
     }
 
     /**
@@ -0,0 +1,338 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.openhab.binding.network.internal.NetworkBindingConstants.BINDING_ID;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.core.cache.ExpiringCache;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A singleton. The {@link PresenceDetectionEngine} runs the checks of all presence detections of the binding, for
+ * the things as well as for the discovery. The checks (pings, arpings and TCP connection attempts) are executed by one
+ * bounded thread pool instead of a thread pool per detection. The automatic refreshes of the things are scheduled by a
+ * single scheduler and staggered across the refresh interval, so the devices are not all checked at the same time.
+ * The neighbour table of the operating system is read at most once per {@link #NEIGHBOUR_TABLE_TTL} for the passive
+ * detections of all devices.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceDetectionEngine {
+    public static final int MAX_THREADS = 32;
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    // the fractional part of the golden ratio, consecutive multiples of it are evenly spread over [0, 1)
+    private static final double PHASE_STEP = 0.6180339887498949;
+    private static final long NEIGHBOUR_TABLE_TTL = 5000; // in ms
+
+    private static final PresenceDetectionEngine INSTANCE = new PresenceDetectionEngine();
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceDetectionEngine.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(BINDING_ID);
+    private final ThreadPoolExecutor executor;
+    private final ProbeStatistics statistics = new ProbeStatistics();
+    private final NetworkUtils networkUtils = new NetworkUtils();
+    private final ExpiringCache<@Nullable Set<String>> neighbourTable = new ExpiringCache<>(NEIGHBOUR_TABLE_TTL,
+            networkUtils::getNeighbourTableAddresses);
+    private double nextPhase = 0;
+
+    PresenceDetectionEngine() {
+        executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory("presenceDetection", true));
+        // the threads are only kept while presence detections are running
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static PresenceDetectionEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns an executor for the checks of one presence detection. The checks are run by the shared thread pool,
+     * {@link DetectionExecutor#shutdownNow()} only drops and interrupts the checks of this detection.
+     */
+    public DetectionExecutor newDetectionExecutor() {
+        return new DetectionExecutor(executor);
+    }
+
+    /**
+     * Schedules the automatic refresh of a device. The first refresh is delayed by a phase of the refresh interval,
+     * consecutive devices get phases spread evenly over the interval.
+     *
+     * @param refresh Starts a presence detection of the device, must not block
+     * @param refreshIntervalInMS The refresh interval of the device
+     * @return The scheduled refresh job
+     */
+    public ScheduledFuture<?> scheduleRefresh(Runnable refresh, long refreshIntervalInMS) {
+        long initialDelay;
+        synchronized (this) {
+            initialDelay = (long) (nextPhase * refreshIntervalInMS);
+            nextPhase = (nextPhase + PHASE_STEP) % 1;
+        }
+        logger.trace("Schedule presence detection every {}ms, first in {}ms", refreshIntervalInMS, initialDelay);
+        return scheduler.scheduleWithFixedDelay(refresh, initialDelay, refreshIntervalInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the shared thread pool, e.g. to handle the results of asynchronous checks.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public ScheduledFuture<?> schedule(Runnable command, long delayInMS) {
+        return scheduler.schedule(command, delayInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the IPv4 addresses of the complete entries of the neighbour table of the operating system.
+     * The table is shared by all presence detections and read again after {@link #NEIGHBOUR_TABLE_TTL}.
+     */
+    public Set<String> getNeighbourTable() {
+        Set<String> addresses = neighbourTable.getValue();
+        return addresses != null ? addresses : Collections.emptySet();
+    }
+
+    public ProbeStatistics getStatistics() {
+        return statistics;
+    }
+
+    public void logStatistics() {
+        if (statistics.getPassiveDetections() > 0) {
+            logger.debug("{} detections without active probes", statistics.getPassiveDetections());
+        }
+        for (PresenceDetectionType type : PresenceDetectionType.values()) {
+            MethodStatistics method = statistics.get(type);
+            if (method.getProbes() > 0) {
+                logger.debug("{}: {} probes, {} timeouts, average latency {}ms, maximum latency {}ms", type,
+                        method.getProbes(), method.getTimeouts(), method.getAverageLatency(),
+                        method.getMaximumLatency());
+            }
+        }
+    }
+
+    /**
+     * The {@link DetectionExecutor} runs the checks of one presence detection on the shared thread pool. The executor
+     * terminates after it was shut down and all started checks returned.
+     */
+    public static class DetectionExecutor extends AbstractExecutorService {
+        private final Executor pool;
+        private final List<Runnable> queued = new ArrayList<>();
+        private final Set<Thread> running = new HashSet<>();
+        private boolean shutdown = false;
+
+        DetectionExecutor(Executor pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException("Presence detection already finished");
+                }
+                queued.add(command);
+            }
+            pool.execute(() -> run(command));
+        }
+
+        private void run(Runnable command) {
+            Thread thread = Thread.currentThread();
+            synchronized (this) {
+                if (!queued.remove(command)) {
+                    return; // dropped by shutdownNow()
+                }
+                running.add(thread);
+            }
+            String name = thread.getName();
+            try {
+                command.run();
+            } finally {
+                synchronized (this) {
+                    running.remove(thread);
+                    notifyAll();
+                }
+                // the checks rename the thread, it is reused by other detections
+                thread.setName(name);
+            }
+        }
+
+        /**
+         * Returns true if checks of the detection are still waiting for a thread of the shared pool.
+         */
+        public synchronized boolean hasQueuedChecks() {
+            return !queued.isEmpty();
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> dropped = new ArrayList<>(queued);
+            queued.clear();
+            Thread current = Thread.currentThread();
+            for (Thread thread : running) {
+                if (thread != current) {
+                    thread.interrupt();
+                }
+            }
+            notifyAll();
+            return dropped;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && queued.isEmpty() && running.isEmpty();
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The {@link ProbeStatistics} count the probes of all presence detections per detection method.
+     */
+    public static class ProbeStatistics {
+        private final Map<PresenceDetectionType, MethodStatistics> methods = new EnumMap<>(
+                PresenceDetectionType.class);
+        private final AtomicLong passiveDetections = new AtomicLong();
+
+        ProbeStatistics() {
+            for (PresenceDetectionType type : PresenceDetectionType.values()) {
+                methods.put(type, new MethodStatistics());
+            }
+        }
+
+        /**
+         * Counts a probe. A probe without a result or with an unsuccessful result counts as timeout.
+         *
+         * @param type The detection method
+         * @param result The result of the probe
+         */
+        public void probe(PresenceDetectionType type, Optional<PingResult> result) {
+            MethodStatistics method = get(type);
+            method.probes.incrementAndGet();
+            if (result.isPresent() && result.get().isSuccess()) {
+                long latency = Math.round(result.get().getExecutionTimeInMS() * 1000);
+                method.latencySum.addAndGet(latency);
+                method.latencyMax.accumulateAndGet(latency, Math::max);
+            } else {
+                method.timeouts.incrementAndGet();
+            }
+        }
+
+        /**
+         * Counts a presence detection, which did not need active probes because of passive evidence.
+         */
+        public void passiveDetection() {
+            passiveDetections.incrementAndGet();
+        }
+
+        /**
+         * @return Number of presence detections without active probes
+         */
+        public long getPassiveDetections() {
+            return passiveDetections.get();
+        }
+
+        @SuppressWarnings("null")
+        public MethodStatistics get(PresenceDetectionType type) {
+            return methods.get(type);
+        }
+    }
+
+    /**
+     * The {@link MethodStatistics} of one detection method.
+     */
+    public static class MethodStatistics {
+        private final AtomicLong probes = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        // in microseconds
+        private final AtomicLong latencySum = new AtomicLong();
+        private final AtomicLong latencyMax = new AtomicLong();
+
+        /**
+         * @return Number of probes sent
+         */
+        public long getProbes() {
+            return probes.get();
+        }
+
+        /**
+         * @return Number of probes without response within the timeout
+         */
+        public long getTimeouts() {
+            return timeouts.get();
+        }
+
+        /**
+         * @return Average latency of the successful probes in ms
+         */
+        public double getAverageLatency() {
+            long responses = probes.get() - timeouts.get();
+            return responses > 0 ? latencySum.get() / 1000.0 / responses : 0;
+        }
+
+        /**
+         * @return Maximum latency of the successful probes in ms
+         */
+        public double getMaximumLatency() {
+            return latencyMax.get() / 1000.0;
+        }
+    }
+}
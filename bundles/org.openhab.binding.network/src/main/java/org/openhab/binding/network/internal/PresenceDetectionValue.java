@@ -13,6 +13,7 @@
 package org.openhab.binding.network.internal;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -27,6 +28,9 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  */
 @NonNullByDefault
 public class PresenceDetectionValue {
+    private static final Set<PresenceDetectionType> PASSIVE_TYPES = EnumSet.of(PresenceDetectionType.DHCP_REQUEST,
+            PresenceDetectionType.NEIGHBOUR_TABLE);
+
     private double latency;
     private boolean detectionIsFinished;
     private final Set<PresenceDetectionType> reachableByType = new TreeSet<>();
@@ -48,6 +52,14 @@ public class PresenceDetectionValue {
         return latency;
     }
 
+    /**
+     * Return true if the target was only detected passively, i.e. by a DHCP request or an entry in the neighbour
+     * table. A passive detection does not measure a latency.
+     */
+    public boolean isPassive() {
+        return !reachableByType.isEmpty() && PASSIVE_TYPES.containsAll(reachableByType);
+    }
+
     /**
      * Return a string of comma separated successful presence detection types.
      */
@@ -16,11 +16,10 @@ import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -30,6 +29,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
@@ -48,7 +48,8 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
- * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * It tries common TCP ports to connect to, ICMP pings and ARP pings. The checks are run by the
+ * {@link PresenceDetectionEngine}, a limited number of IPs is scanned at the same time.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
@@ -59,6 +60,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     static final int PING_TIMEOUT_IN_MS = 500;
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
+    // The tcp connection attempts do not block a thread, only the pings limit the parallel scans
+    private static final int MAX_PARALLEL_SCANS = PresenceDetectionEngine.MAX_THREADS / 2;
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
     // TCP port 548 (Apple Filing Protocol (AFP))
@@ -67,7 +70,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private Set<Integer> tcpServicePorts = Collections
             .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private @Nullable Iterator<String> pendingIPs = null;
+    private int networkIPcount;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
@@ -97,8 +101,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
+        synchronized (this) {
+            pendingIPs = null;
         }
         super.deactivate();
     }
@@ -118,27 +122,41 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
     @Override
     public void finalDetectionResult(PresenceDetectionValue value) {
+        ipScanned();
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts the presence detection for each IP on each interface on the network. The detections
+     * do not block a thread, the next IP is scanned when the detection of an IP finished.
      */
     @Override
     protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        scannedIPcount.set(0);
+        synchronized (this) {
+            scannedIPcount.set(0);
+            networkIPcount = networkIPs.size();
+            pendingIPs = networkIPs.iterator();
+        }
+        for (int i = 0; i < MAX_PARALLEL_SCANS; i++) {
+            scanNextIP();
+        }
+    }
+
+    private void scanNextIP() {
+        // IPs without any possible check are finished immediately
+        while (true) {
+            final String ip;
+            synchronized (this) {
+                Iterator<String> ips = pendingIPs;
+                if (ips == null || !ips.hasNext()) {
+                    return;
+                }
+                ip = ips.next();
+            }
 
-        for (String ip : networkIPs) {
             final PresenceDetection s = new PresenceDetection(this, 2000);
             s.setHostname(ip);
             s.setIOSDevice(true);
@@ -150,33 +168,31 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             // TCP devices
             s.setServicePorts(tcpServicePorts);
 
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                s.performPresenceDetection(true);
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
-            });
+            if (s.performPresenceDetection(false)) {
+                return;
+            }
+            countScannedIP();
+        }
+    }
+
+    private void ipScanned() {
+        countScannedIP();
+        scanNextIP();
+    }
+
+    private void countScannedIP() {
+        int count = scannedIPcount.incrementAndGet();
+        if (count == networkIPcount) {
+            logger.trace("Scan of {} IPs successful", scannedIPcount);
+            stopScan();
         }
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
-
-        try {
-            service.awaitTermination(PING_TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
-        }
-        service.shutdown();
-        executorService = null;
+        // detections already started finish by themselves
+        pendingIPs = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -185,7 +201,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the presence detections started in {@link startScan}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -228,7 +244,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the presence detections started in {@link startScan}.
      *
      * @param ip The device IP
      */
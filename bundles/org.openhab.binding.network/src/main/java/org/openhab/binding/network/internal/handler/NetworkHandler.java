@@ -129,6 +129,10 @@ public class NetworkHandler extends BaseThingHandler
     @Override
     public void partialDetectionResult(PresenceDetectionValue value) {
         updateState(CHANNEL_ONLINE, OnOffType.ON);
+        if (value.isPassive()) {
+            // no latency was measured, the latency channels keep the last measured latency
+            return;
+        }
         updateState(CHANNEL_LATENCY, new QuantityType<>(value.getLowestLatency(), MetricPrefix.MILLI(Units.SECOND)));
         updateState(CHANNEL_DEPRECATED_TIME, new DecimalType(value.getLowestLatency()));
     }
@@ -190,6 +194,7 @@ public class NetworkHandler extends BaseThingHandler
             presenceDetection.setIOSDevice(true);
             // Hand over binding configurations to the network service
             presenceDetection.setUseDhcpSniffing(configuration.allowDHCPlisten);
+            presenceDetection.setUsePassiveDetection(configuration.allowPassiveDetection);
             presenceDetection.setUseIcmpPing(configuration.allowSystemPings);
             presenceDetection.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
         }
@@ -201,7 +206,7 @@ public class NetworkHandler extends BaseThingHandler
         wakeOnLanPacketSender = new WakeOnLanPacketSender(handlerConfiguration.macAddress);
 
         updateStatus(ThingStatus.ONLINE);
-        presenceDetection.startAutomaticRefresh(scheduler);
+        presenceDetection.startAutomaticRefresh();
 
         updateNetworkProperties();
     }
@@ -15,25 +15,25 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
-import java.net.SocketAddress;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
@@ -54,6 +54,11 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class NetworkUtils {
+    private static final String NEIGHBOUR_TABLE = "/proc/net/arp";
+    // ATF_COM, the hardware address of the entry is known
+    private static final int NEIGHBOUR_ENTRY_COMPLETE = 0x2;
+    private static final String NO_HARDWARE_ADDRESS = "00:00:00:00:00:00";
+
     private final Logger logger = LoggerFactory.getLogger(NetworkUtils.class);
 
     private LatencyParser latencyParser = new LatencyParser();
@@ -92,6 +97,51 @@ public class NetworkUtils {
         return result;
     }
 
+    /**
+     * Get the IPv4 addresses of the complete entries of the neighbour (ARP) table of the operating system.
+     * The table is only available on Linux, the result is empty on other systems.
+     *
+     * @return Set of IPv4 addresses
+     */
+    public Set<String> getNeighbourTableAddresses() {
+        Path neighbourTable = Paths.get(NEIGHBOUR_TABLE);
+        if (!Files.isReadable(neighbourTable)) {
+            return Collections.emptySet();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(neighbourTable)) {
+            return getNeighbourTableAddresses(reader);
+        } catch (IOException e) {
+            logger.debug("Failed to read the neighbour table {}", NEIGHBOUR_TABLE, e);
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Parses a neighbour table in the format of /proc/net/arp:
+     * "IP address HW type Flags HW address Mask Device", one entry per line after a header line.
+     */
+    Set<String> getNeighbourTableAddresses(BufferedReader reader) throws IOException {
+        Set<String> result = new HashSet<>();
+        // skip the header line
+        reader.readLine();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length < 4) {
+                continue;
+            }
+            try {
+                if ((Integer.decode(fields[2]) & NEIGHBOUR_ENTRY_COMPLETE) != 0
+                        && !NO_HARDWARE_ADDRESS.equals(fields[3])) {
+                    result.add(fields[0]);
+                }
+            } catch (NumberFormatException e) {
+                logger.trace("Invalid neighbour table entry: {}", line);
+            }
+        }
+        return result;
+    }
+
     /**
      * Determines every IP which can be assigned on all available interfaces
      *
@@ -148,25 +198,17 @@ public class NetworkUtils {
     }
 
     /**
-     * Try to establish a tcp connection to the given port. Returns false if a timeout occurred
-     * or the connection was denied.
+     * Try to establish a tcp connection to the given port without blocking the calling thread.
+     * The connection attempts of all callers are handled by the {@link TcpProber}.
      *
      * @param host The IP or hostname
      * @param port The tcp port. Must be not 0.
      * @param timeout Timeout in ms
-     * @return Ping result information. Optional is empty if ping command was not executed.
-     * @throws IOException
+     * @return Ping result information, unsuccessful if a timeout occurred or the connection was denied.
+     *         Completes exceptionally if the connection attempt could not be made.
      */
-    public Optional<PingResult> servicePing(String host, int port, int timeout) throws IOException {
-        double execStartTimeInMS = System.currentTimeMillis();
-
-        SocketAddress socketAddress = new InetSocketAddress(host, port);
-        try (Socket socket = new Socket()) {
-            socket.connect(socketAddress, timeout);
-            return Optional.of(new PingResult(true, System.currentTimeMillis() - execStartTimeInMS));
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException ignored) {
-            return Optional.of(new PingResult(false, System.currentTimeMillis() - execStartTimeInMS));
-        }
+    public CompletableFuture<PingResult> servicePingAsync(String host, int port, int timeout) {
+        return TcpProber.getInstance().probe(new InetSocketAddress(host, port), timeout);
     }
 
     /**
@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A singleton. The {@link TcpProber} establishes tcp connections without blocking a thread per connection.
+ * All connection attempts are non-blocking connects, waited for by one selector thread. The thread is
+ * started with the first connection attempt and ends when no connection attempt is pending anymore.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpProber {
+    // limits the open sockets, further connection attempts wait until one of them finished
+    static final int MAX_PENDING_CONNECTS = 512;
+
+    private static final TcpProber INSTANCE = new TcpProber();
+
+    private final Logger logger = LoggerFactory.getLogger(TcpProber.class);
+    private final Queue<Probe> queue = new ConcurrentLinkedQueue<>();
+    private @Nullable Selector selector;
+    // registered connection attempts, only accessed by the selector thread
+    private int pending = 0;
+
+    public static TcpProber getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Try to establish a tcp connection to the given address. The result is unsuccessful if a timeout
+     * occurred or the connection was denied. The timeout starts with the connection attempt, not with
+     * the call of this method.
+     *
+     * @param address The address and the tcp port
+     * @param timeoutInMS Timeout in ms
+     * @return Ping result information, completed by the selector thread. Completes exceptionally if the
+     *         connection attempt could not be made at all, e.g. if the host name cannot be resolved.
+     */
+    public CompletableFuture<PingResult> probe(InetSocketAddress address, int timeoutInMS) {
+        Probe probe = new Probe(address, timeoutInMS);
+        queue.add(probe);
+        synchronized (this) {
+            Selector running = this.selector;
+            if (running != null) {
+                running.wakeup();
+                return probe.future;
+            }
+            final Selector selector;
+            try {
+                selector = Selector.open();
+            } catch (IOException e) {
+                queue.remove(probe);
+                probe.future.completeExceptionally(e);
+                return probe.future;
+            }
+            this.selector = selector;
+            Thread thread = new Thread(() -> run(selector), "OH-binding-network-tcpProber");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return probe.future;
+    }
+
+    private void run(Selector selector) {
+        logger.trace("Tcp prober started");
+        try {
+            while (true) {
+                while (pending < MAX_PENDING_CONNECTS) {
+                    Probe probe = queue.poll();
+                    if (probe == null) {
+                        break;
+                    }
+                    connect(selector, probe);
+                }
+                if (pending == 0) {
+                    if (stopIfIdle(selector)) {
+                        return;
+                    }
+                    continue;
+                }
+
+                selector.select(nextTimeout(selector));
+
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    finishConnect(key);
+                }
+                expire(selector);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Tcp prober failed", e);
+            synchronized (this) {
+                this.selector = null;
+            }
+            for (SelectionKey key : selector.keys()) {
+                if (key.isValid()) {
+                    complete(key, false);
+                }
+            }
+            pending = 0;
+            Probe probe;
+            while ((probe = queue.poll()) != null) {
+                probe.future.completeExceptionally(e);
+            }
+            closeSelector(selector);
+        }
+    }
+
+    /**
+     * Ends the selector thread, unless a connection attempt was queued meanwhile.
+     */
+    private synchronized boolean stopIfIdle(Selector selector) {
+        if (!queue.isEmpty()) {
+            return false;
+        }
+        this.selector = null;
+        closeSelector(selector);
+        logger.trace("Tcp prober stopped");
+        return true;
+    }
+
+    private void connect(Selector selector, Probe probe) {
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            probe.start();
+            if (channel.connect(probe.address)) {
+                channel.close();
+                probe.complete(true);
+            } else {
+                channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                pending++;
+            }
+        } catch (ConnectException | NoRouteToHostException e) {
+            close(channel);
+            probe.complete(false);
+        } catch (UnresolvedAddressException e) {
+            close(channel);
+            probe.future.completeExceptionally(new UnknownHostException(probe.address.getHostString()));
+        } catch (IOException e) {
+            close(channel);
+            probe.future.completeExceptionally(e);
+        }
+    }
+
+    private void finishConnect(SelectionKey key) {
+        boolean success;
+        try {
+            success = ((SocketChannel) key.channel()).finishConnect();
+        } catch (IOException e) {
+            // connection refused, host or network unreachable
+            success = false;
+        }
+        complete(key, success);
+    }
+
+    private void complete(SelectionKey key, boolean success) {
+        pending--;
+        key.cancel();
+        close((SocketChannel) key.channel());
+        ((Probe) key.attachment()).complete(success);
+    }
+
+    private void expire(Selector selector) {
+        long now = System.nanoTime();
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid() && now - ((Probe) key.attachment()).deadline >= 0) {
+                complete(key, false);
+            }
+        }
+    }
+
+    private long nextTimeout(Selector selector) {
+        long now = System.nanoTime();
+        long timeout = Long.MAX_VALUE;
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid()) {
+                timeout = Math.min(timeout, ((Probe) key.attachment()).deadline - now);
+            }
+        }
+        // 0 would wait forever
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeout));
+    }
+
+    private void close(@Nullable SocketChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void closeSelector(Selector selector) {
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static class Probe {
+        private final InetSocketAddress address;
+        private final int timeoutInMS;
+        private final CompletableFuture<PingResult> future = new CompletableFuture<>();
+        private long startTime;
+        private long deadline;
+
+        Probe(InetSocketAddress address, int timeoutInMS) {
+            this.address = address;
+            this.timeoutInMS = timeoutInMS;
+        }
+
+        void start() {
+            startTime = System.nanoTime();
+            deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutInMS);
+        }
+
+        void complete(boolean success) {
+            future.complete(new PingResult(success, (System.nanoTime() - startTime) / 1000000.0));
+        }
+    }
+}
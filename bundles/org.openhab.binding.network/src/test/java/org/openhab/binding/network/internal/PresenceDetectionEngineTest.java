@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.PresenceDetectionEngine.DetectionExecutor;
+import org.openhab.binding.network.internal.PresenceDetectionEngine.MethodStatistics;
+import org.openhab.binding.network.internal.PresenceDetectionEngine.ProbeStatistics;
+import org.openhab.binding.network.internal.utils.PingResult;
+
+/**
+ * Tests cases for {@see PresenceDetectionEngine}
+ *
+ * @author agent - Initial contribution
+ */
+public class PresenceDetectionEngineTest {
+
+    @Test
+    public void detectionExecutorTerminatesAfterShutdown() throws InterruptedException {
+        List<Runnable> pool = new ArrayList<>();
+        DetectionExecutor executor = new DetectionExecutor(pool::add);
+
+        executor.execute(() -> {
+        });
+        executor.execute(() -> {
+        });
+        assertTrue(executor.hasQueuedChecks());
+
+        pool.get(0).run();
+        executor.shutdown();
+        assertFalse(executor.isTerminated());
+
+        pool.get(1).run();
+        assertTrue(executor.isTerminated());
+        assertTrue(executor.awaitTermination(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void detectionExecutorDropsQueuedChecks() {
+        List<Runnable> pool = new ArrayList<>();
+        DetectionExecutor executor = new DetectionExecutor(pool::add);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        executor.execute(executed::countDown);
+        assertThat(executor.shutdownNow().size(), is(1));
+        assertTrue(executor.isTerminated());
+
+        // the dropped check is not run by the shared pool
+        pool.get(0).run();
+        assertThat(executed.getCount(), is(1L));
+    }
+
+    @Test
+    public void sharedPoolRunsChecks() throws InterruptedException {
+        DetectionExecutor executor = PresenceDetectionEngine.getInstance().newDetectionExecutor();
+        CountDownLatch executed = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            executor.execute(executed::countDown);
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        assertThat(executed.getCount(), is(0L));
+    }
+
+    @Test
+    public void probeStatistics() {
+        ProbeStatistics statistics = new ProbeStatistics();
+
+        statistics.probe(PresenceDetectionType.ICMP_PING, Optional.of(new PingResult(true, 10)));
+        statistics.probe(PresenceDetectionType.ICMP_PING, Optional.of(new PingResult(true, 20)));
+        statistics.probe(PresenceDetectionType.ICMP_PING, Optional.of(new PingResult(false, 300)));
+        statistics.probe(PresenceDetectionType.ICMP_PING, Optional.empty());
+
+        MethodStatistics icmp = statistics.get(PresenceDetectionType.ICMP_PING);
+        assertThat(icmp.getProbes(), is(4L));
+        assertThat(icmp.getTimeouts(), is(2L));
+        assertThat(icmp.getAverageLatency(), is(15.0));
+        assertThat(icmp.getMaximumLatency(), is(20.0));
+        assertThat(statistics.get(PresenceDetectionType.ARP_PING).getProbes(), is(0L));
+    }
+}
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -117,7 +118,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        doReturn(CompletableFuture.completedFuture(new PingResult(true, 10))).when(networkUtils)
+                .servicePingAsync(anyString(), anyInt(), anyInt());
 
         assertTrue(subject.performPresenceDetection(false));
         subject.waitForPresenceDetection();
@@ -140,7 +142,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        // The tcp connection attempt does not complete during the test
+        doReturn(new CompletableFuture<>()).when(networkUtils).servicePingAsync(anyString(), anyInt(), anyInt());
 
         doReturn(executorService).when(subject).getThreadsFor(anyInt());
 
@@ -176,6 +179,36 @@ public class PresenceDetectionTest {
         verify(callback, times(2)).accept(any());
     }
 
+    @Test
+    public void passiveDetectionTest() {
+        doNothing().when(subject).performARPping(any());
+        doNothing().when(subject).performSystemPing();
+        subject.setServicePorts(Collections.emptySet());
+        subject.setUsePassiveDetection(true);
+
+        // The first detection is always an active one
+        assertTrue(subject.performPresenceDetection(false));
+        subject.waitForPresenceDetection();
+        verify(subject).performSystemPing();
+
+        PresenceDetectionEngine engine = mock(PresenceDetectionEngine.class);
+        when(engine.getNeighbourTable()).thenReturn(Collections.singleton("127.0.0.1"));
+        when(engine.getStatistics()).thenReturn(new PresenceDetectionEngine.ProbeStatistics());
+        subject.engine = engine;
+        subject.cache.invalidateValue();
+
+        // The device has a neighbour table entry, no checks are performed
+        assertTrue(subject.performPresenceDetection(false));
+        verify(subject).performSystemPing();
+        verify(subject).performARPping(any());
+
+        ArgumentCaptor<PresenceDetectionValue> capture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener, times(2)).finalDetectionResult(capture.capture());
+        assertTrue(capture.getValue().isReachable());
+        assertThat(capture.getValue().getSuccessfulDetectionTypes(), is("NEIGHBOUR_TABLE"));
+        assertTrue(capture.getValue().isPassive());
+    }
+
     @Test
     public void reuseValueTests() throws InterruptedException, IOException {
         final long START_TIME = 1000L;
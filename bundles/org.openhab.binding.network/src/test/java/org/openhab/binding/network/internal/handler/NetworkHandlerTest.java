@@ -78,7 +78,7 @@ public class NetworkHandlerTest extends JavaTest {
         });
         PresenceDetection presenceDetection = spy(new PresenceDetection(handler, 2000));
         // Mock start/stop automatic refresh
-        doNothing().when(presenceDetection).startAutomaticRefresh(any());
+        doNothing().when(presenceDetection).startAutomaticRefresh();
         doNothing().when(presenceDetection).stopAutomaticRefresh();
 
         handler.initialize(presenceDetection);
@@ -122,7 +122,7 @@ public class NetworkHandlerTest extends JavaTest {
         });
         PresenceDetection presenceDetection = spy(new PresenceDetection(handler, 2000));
         // Mock start/stop automatic refresh
-        doNothing().when(presenceDetection).startAutomaticRefresh(any());
+        doNothing().when(presenceDetection).startAutomaticRefresh();
         doNothing().when(presenceDetection).stopAutomaticRefresh();
 
         handler.initialize(presenceDetection);
@@ -150,4 +150,32 @@ public class NetworkHandlerTest extends JavaTest {
         handler.finalDetectionResult(value);
         verify(callback).stateUpdated(eq(new ChannelUID(thingUID, NetworkBindingConstants.CHANNEL_LASTSEEN)), any());
     }
+
+    @Test
+    public void passiveResultKeepsLatency() {
+        NetworkBindingConfiguration config = new NetworkBindingConfiguration();
+        NetworkHandler handler = spy(new NetworkHandler(thing, false, config));
+        handler.setCallback(callback);
+        when(thing.getConfiguration()).thenAnswer(a -> {
+            Configuration conf = new Configuration();
+            conf.put(NetworkBindingConstants.PARAMETER_HOSTNAME, "127.0.0.1");
+            return conf;
+        });
+        PresenceDetection presenceDetection = spy(new PresenceDetection(handler, 2000));
+        doNothing().when(presenceDetection).startAutomaticRefresh();
+        doNothing().when(presenceDetection).stopAutomaticRefresh();
+        handler.initialize(presenceDetection);
+
+        PresenceDetectionValue value = mock(PresenceDetectionValue.class);
+        when(value.isPassive()).thenReturn(true);
+
+        // A passive detection only affects the ONLINE channel
+        handler.partialDetectionResult(value);
+        verify(callback).stateUpdated(eq(new ChannelUID(thingUID, NetworkBindingConstants.CHANNEL_ONLINE)),
+                eq(OnOffType.ON));
+        verify(callback, never()).stateUpdated(eq(new ChannelUID(thingUID, NetworkBindingConstants.CHANNEL_LATENCY)),
+                any());
+        verify(callback, never()).stateUpdated(
+                eq(new ChannelUID(thingUID, NetworkBindingConstants.CHANNEL_DEPRECATED_TIME)), any());
+    }
 }
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@see NetworkUtils}
+ *
+ * @author agent - Initial contribution
+ */
+public class NetworkUtilsTest {
+    private static final String HEADER = "IP address       HW type     Flags       HW address            Mask     Device\n";
+
+    @Test
+    public void parseNeighbourTable() throws IOException {
+        String table = HEADER + "192.168.1.1      0x1         0x2         aa:bb:cc:dd:ee:01     *        eth0\n"
+                + "192.168.1.20     0x1         0x0         00:00:00:00:00:00     *        eth0\n"
+                + "192.168.1.21     0x1         0x6         aa:bb:cc:dd:ee:02     *        eth0\n"
+                + "192.168.1.22     0x1         0x2         00:00:00:00:00:00     *        eth0\n";
+
+        Set<String> addresses = new NetworkUtils()
+                .getNeighbourTableAddresses(new BufferedReader(new StringReader(table)));
+
+        assertThat(addresses, is(Set.of("192.168.1.1", "192.168.1.21")));
+    }
+
+    @Test
+    public void parseEmptyNeighbourTable() throws IOException {
+        Set<String> addresses = new NetworkUtils()
+                .getNeighbourTableAddresses(new BufferedReader(new StringReader(HEADER)));
+
+        assertThat(addresses, is(Collections.emptySet()));
+    }
+}
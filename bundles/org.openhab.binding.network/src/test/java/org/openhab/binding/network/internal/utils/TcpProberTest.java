@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@see TcpProber}
+ *
+ * @author agent - Initial contribution
+ */
+public class TcpProberTest {
+    private final InetAddress localhost = InetAddress.getLoopbackAddress();
+
+    @Test
+    public void openPortIsReachable() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, localhost)) {
+            PingResult result = TcpProber.getInstance()
+                    .probe(new InetSocketAddress(localhost, server.getLocalPort()), 1000).get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void closedPortIsNotReachable() throws Exception {
+        int port = closedPort();
+        PingResult result = TcpProber.getInstance().probe(new InetSocketAddress(localhost, port), 1000).get(5,
+                TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void manyConnectionAttempts() throws Exception {
+        int port = closedPort();
+        try (ServerSocket server = new ServerSocket(0, 50, localhost)) {
+            List<CompletableFuture<PingResult>> open = new ArrayList<>();
+            List<CompletableFuture<PingResult>> closed = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                open.add(TcpProber.getInstance().probe(new InetSocketAddress(localhost, server.getLocalPort()), 1000));
+                closed.add(TcpProber.getInstance().probe(new InetSocketAddress(localhost, port), 1000));
+            }
+            for (CompletableFuture<PingResult> result : open) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+            for (CompletableFuture<PingResult> result : closed) {
+                assertFalse(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+        }
+    }
+
+    private int closedPort() throws IOException {
+        try (ServerSocket server = new ServerSocket(0, 50, localhost)) {
+            return server.getLocalPort();
+        }
+    }
+}
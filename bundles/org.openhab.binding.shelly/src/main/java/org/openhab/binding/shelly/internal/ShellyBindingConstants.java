@@ -336,5 +336,6 @@ public class ShellyBindingConstants {
     public static final int UPDATE_SKIP_COUNT = 20; // update every x triggers or when a key was pressed
     public static final int UPDATE_MIN_DELAY = 15;// update every x triggers or when a key was pressed
     public static final int UPDATE_SETTINGS_INTERVAL_SECONDS = 60; // check for updates every x sec
+    public static final int UPDATE_COIOT_MAX_SKIP_SECONDS = 300; // poll at least every x sec when CoIoT is active
     public static final int HEALTH_CHECK_INTERVAL_SEC = 300; // Health check interval, 5min
 }
@@ -235,7 +235,11 @@ public class ShellyCoIoTProtocol {
             Double brightness = -1.0;
             Double power = -1.0;
             for (CoIotSensor update : allUpdates) {
-                CoIotDescrSen d = fixDescription(sensorMap.getOrDefault(update.id, new CoIotDescrSen()), blkMap);
+                // sensor definitions are fixed when the device description is added
+                CoIotDescrSen d = sensorMap.get(update.id);
+                if (d == null) {
+                    continue;
+                }
                 if (!checkL.isEmpty() && !d.links.equals(checkL)) {
                     // continue until we find the correct one
                     continue;
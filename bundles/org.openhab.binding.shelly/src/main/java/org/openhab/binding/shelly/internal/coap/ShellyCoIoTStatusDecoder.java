@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.coap;
+
+import static org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.COIOT_TAG_GENERIC;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDescrSen;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensor;
+
+/**
+ * The {@link ShellyCoIoTStatusDecoder} decodes the sensor values of a CoIoT status update ({"G":[[0,112,1],...]}).
+ * The payload is scanned in place, which also tolerates the malformed separators some firmware releases produce
+ * ("][" or "],,["). String values are unescaped like JSON strings. Sensor ids are resolved against a table of the
+ * ids from the device description, so the decoded values carry the id string of their sensor definition.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyCoIoTStatusDecoder {
+    private static final String GENERIC_TAG = "\"" + COIOT_TAG_GENERIC + "\"";
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15 };
+
+    // sorted numeric sensor ids and the matching id strings of the device description
+    private int[] ids = new int[0];
+    private String[] idStrings = new String[0];
+
+    /**
+     * Rebuild the id table from the sensor definitions of the device description
+     *
+     * @param sensors Sensor definitions
+     */
+    public void setSensors(Collection<CoIotDescrSen> sensors) {
+        int[] newIds = new int[sensors.size()];
+        String[] newIdStrings = new String[sensors.size()];
+        int count = 0;
+        for (CoIotDescrSen sen : sensors) {
+            int id;
+            try {
+                id = Integer.parseInt(sen.id);
+            } catch (NumberFormatException e) {
+                continue; // status updates only contain numeric ids
+            }
+            // insertion sort, a device has only a few dozen sensors
+            int i = count;
+            while ((i > 0) && (newIds[i - 1] > id)) {
+                newIds[i] = newIds[i - 1];
+                newIdStrings[i] = newIdStrings[i - 1];
+                i--;
+            }
+            newIds[i] = id;
+            newIdStrings[i] = sen.id;
+            count++;
+        }
+        synchronized (this) {
+            idStrings = Arrays.copyOf(newIdStrings, count);
+            ids = Arrays.copyOf(newIds, count);
+        }
+    }
+
+    /**
+     * Decode the sensor values of a status update
+     *
+     * @param payload CoIoT status payload
+     * @return Sensor values in the order of the payload, values of ids not included in the device description carry
+     *         the id as reported by the device
+     * @throws IllegalArgumentException if the payload has no valid "G" array
+     */
+    public List<CoIotSensor> decode(String payload) {
+        int[] ids;
+        String[] idStrings;
+        synchronized (this) {
+            ids = this.ids;
+            idStrings = this.idStrings;
+        }
+
+        int pos = payload.indexOf(GENERIC_TAG);
+        if (pos < 0) {
+            throw new IllegalArgumentException("Status update without " + GENERIC_TAG);
+        }
+        pos = expect(payload, skipWhitespace(payload, pos + GENERIC_TAG.length()), ':');
+        pos = expect(payload, skipWhitespace(payload, pos), '[');
+
+        List<CoIotSensor> sensors = new ArrayList<>(ids.length);
+        while (true) {
+            pos = skipSeparators(payload, pos);
+            if (charAt(payload, pos) == ']') {
+                break;
+            }
+            pos = expect(payload, pos, '[');
+            pos = skipNumber(payload, skipSeparators(payload, pos)); // channel, always 0
+            pos = skipSeparators(payload, pos);
+
+            int end = skipNumber(payload, pos);
+            int id = parseInt(payload, pos, end);
+            int idx = Arrays.binarySearch(ids, id);
+            CoIotSensor sensor = new CoIotSensor();
+            sensor.id = idx >= 0 ? idStrings[idx] : Integer.toString(id);
+            pos = parseValue(payload, skipSeparators(payload, end), sensor);
+            pos = expect(payload, skipSeparators(payload, pos), ']');
+            sensors.add(sensor);
+        }
+        return sensors;
+    }
+
+    private static int parseValue(String payload, int start, CoIotSensor sensor) {
+        char c = charAt(payload, start);
+        if (c == '"') {
+            int end = skipString(payload, start);
+            sensor.valueStr = parseString(payload, start, end);
+            sensor.value = -1;
+            return end;
+        } else if (c == '[') {
+            List<Object> values = new ArrayList<>();
+            int pos = start + 1;
+            while (true) {
+                pos = skipSeparators(payload, pos);
+                c = charAt(payload, pos);
+                if (c == ']') {
+                    break;
+                } else if (c == '"') {
+                    int end = skipString(payload, pos);
+                    values.add(parseString(payload, pos, end));
+                    pos = end;
+                } else {
+                    // null or a value not used by the binding
+                    pos = skipNumber(payload, pos);
+                }
+            }
+            sensor.valueArray = values;
+            return pos + 1;
+        }
+        int end = skipNumber(payload, start);
+        sensor.value = parseDouble(payload, start, end);
+        sensor.valueStr = "";
+        return end;
+    }
+
+    /**
+     * Parse a number without creating a substring for the common cases (integers and decimals with up to 15 digits)
+     */
+    private static double parseDouble(String payload, int start, int end) {
+        boolean negative = charAt(payload, start) == '-';
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            char c = payload.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if ((c == '.') && (decimals < 0)) {
+                decimals = 0;
+            } else {
+                digits = Integer.MAX_VALUE; // exponent or invalid character
+                break;
+            }
+        }
+        if ((digits == 0) || (digits >= POWERS_OF_TEN.length)) {
+            try {
+                return Double.parseDouble(payload.substring(start, end));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number at position " + start, e);
+            }
+        }
+        // exact for mantissas below 2^53, the division by the power of ten is correctly rounded
+        double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+        return negative ? -value : value;
+    }
+
+    private static int parseInt(String payload, int start, int end) {
+        double value = parseDouble(payload, start, end);
+        if (value != (int) value) {
+            throw new IllegalArgumentException("Invalid sensor id at position " + start);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Return the value of a JSON string, the substring between the quotes if it contains no escape sequence
+     *
+     * @param start Position of the opening quote
+     * @param end Position after the closing quote
+     */
+    private static String parseString(String payload, int start, int end) {
+        int escape = payload.indexOf('\\', start + 1);
+        if ((escape < 0) || (escape >= end - 1)) {
+            return payload.substring(start + 1, end - 1);
+        }
+        StringBuilder value = new StringBuilder(end - start);
+        value.append(payload, start + 1, escape);
+        int pos = escape;
+        while (pos < end - 1) {
+            char c = payload.charAt(pos++);
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            c = payload.charAt(pos++);
+            switch (c) {
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 4 > end - 1) {
+                        throw new IllegalArgumentException("Invalid unicode escape at position " + (pos - 2));
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(payload.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid unicode escape at position " + (pos - 2), e);
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    // \", \\ and \/
+                    value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    private static int skipNumber(String payload, int start) {
+        int pos = start;
+        while (pos < payload.length()) {
+            char c = payload.charAt(pos);
+            if ((c == ',') || (c == ']') || Character.isWhitespace(c)) {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw new IllegalArgumentException("Value expected at position " + start);
+        }
+        return pos;
+    }
+
+    private static int skipString(String payload, int start) {
+        int pos = start + 1;
+        while (pos < payload.length()) {
+            char c = payload.charAt(pos);
+            if (c == '\\') {
+                pos++;
+            } else if (c == '"') {
+                return pos + 1;
+            }
+            pos++;
+        }
+        throw new IllegalArgumentException("Unterminated string at position " + start);
+    }
+
+    private static int skipWhitespace(String payload, int start) {
+        int pos = start;
+        while ((pos < payload.length()) && Character.isWhitespace(payload.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipSeparators(String payload, int start) {
+        int pos = start;
+        while ((pos < payload.length())
+                && ((payload.charAt(pos) == ',') || Character.isWhitespace(payload.charAt(pos)))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int expect(String payload, int pos, char expected) {
+        if (charAt(payload, pos) != expected) {
+            throw new IllegalArgumentException("'" + expected + "' expected at position " + pos);
+        }
+        return pos + 1;
+    }
+
+    private static char charAt(String payload, int pos) {
+        if (pos >= payload.length()) {
+            throw new IllegalArgumentException("Unexpected end of status update");
+        }
+        return payload.charAt(pos);
+    }
+}
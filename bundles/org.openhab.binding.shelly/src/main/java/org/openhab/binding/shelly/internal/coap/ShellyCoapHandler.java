@@ -36,9 +36,7 @@ import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDescrBlk;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDescrSen;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDevDescrTypeAdapter;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDevDescription;
-import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotGenericSensorList;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensor;
-import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensorTypeAdapter;
 import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
 import org.openhab.binding.shelly.internal.handler.ShellyBaseHandler;
 import org.openhab.core.types.State;
@@ -79,6 +77,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
     private String lastPayload = "";
     private Map<String, CoIotDescrBlk> blkMap = new LinkedHashMap<>();
     private Map<String, CoIotDescrSen> sensorMap = new LinkedHashMap<>();
+    private final ShellyCoIoTStatusDecoder statusDecoder = new ShellyCoIoTStatusDecoder();
     private final ShellyDeviceProfile profile;
 
     public ShellyCoapHandler(ShellyBaseHandler thingHandler, ShellyCoapServer coapServer) {
@@ -88,7 +87,6 @@ public class ShellyCoapHandler implements ShellyCoapListener {
         this.coiot = new ShellyCoIoTVersion1(thingName, thingHandler, blkMap, sensorMap); // Default
 
         gsonBuilder.registerTypeAdapter(CoIotDevDescription.class, new CoIotDevDescrTypeAdapter());
-        gsonBuilder.registerTypeAdapter(CoIotGenericSensorList.class, new CoIotSensorTypeAdapter());
         gson = gsonBuilder.create();
         profile = thingHandler.getProfile();
     }
@@ -110,7 +108,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             }
 
             logger.debug("{}: Starting CoAP Listener", thingName);
-            coapServer.start(config.localIp, this);
+            coapServer.start(config.localIp, config.deviceIp, this);
             statusClient = new CoapClient(completeUrl(config.deviceIp, COLOIT_URI_DEVSTATUS))
                     .setTimeout((long) SHELLY_API_TIMEOUT_MS).useNONs().setEndpoint(coapServer.getEndpoint());
             discover();
@@ -134,10 +132,6 @@ public class ShellyCoapHandler implements ShellyCoapListener {
         if (response == null) {
             return; // other device instance
         }
-        String ip = response.getSourceContext().getPeerAddress().toString();
-        if (!ip.contains(config.deviceIp)) {
-            return;
-        }
 
         String payload = "";
         String devId = "";
@@ -214,11 +208,9 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                     return;
                 }
 
-                // fixed malformed JSON :-(
-                payload = fixJSON(payload);
-
                 if (uri.equalsIgnoreCase(COLOIT_URI_DEVDESC) || (uri.isEmpty() && payload.contains(COIOT_TAG_BLK))) {
-                    handleDeviceDescription(devId, payload);
+                    // fixed malformed JSON :-( (the status decoder tolerates the malformed separators)
+                    handleDeviceDescription(devId, fixJSON(payload));
                 } else if (uri.equalsIgnoreCase(COLOIT_URI_DEVSTATUS)
                         || (uri.isEmpty() && payload.contains(COIOT_TAG_GENERIC))) {
                     handleStatusUpdate(devId, payload, serial);
@@ -297,6 +289,9 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                 discover();
                 return;
             }
+
+            // status updates are decoded against the ids of the new description
+            statusDecoder.setSensors(sensorMap.values());
         } catch (JsonSyntaxException e) {
             logger.warn("{}: Unable to parse CoAP Device Description! JSON={}", thingName, payload);
         } catch (NullPointerException | IllegalArgumentException e) {
@@ -366,39 +361,35 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             handleDeviceDescription(devId, savedDescr);
         }
 
-        // Parse Json,
-        CoIotGenericSensorList list = gson.fromJson(fixJSON(payload), CoIotGenericSensorList.class);
-        if (list.generic == null) {
-            logger.debug("{}: Sensor list has invalid format! Payload: {}", devId, payload);
+        List<CoIotSensor> sensorUpdates;
+        try {
+            sensorUpdates = statusDecoder.decode(payload);
+        } catch (IllegalArgumentException e) {
+            logger.debug("{}: Sensor list has invalid format! Payload: {}", devId, payload, e);
             return;
         }
+        thingHandler.coiotStatusReceived();
 
-        List<CoIotSensor> sensorUpdates = list.generic;
         Map<String, State> updates = new TreeMap<String, State>();
         logger.debug("{}: {} CoAP sensor updates received", thingName, sensorUpdates.size());
         int failed = 0;
         for (int i = 0; i < sensorUpdates.size(); i++) {
             try {
                 CoIotSensor s = sensorUpdates.get(i);
-                if (!sensorMap.containsKey(s.id)) {
+                // the sensor definition was already fixed when the device description was added
+                CoIotDescrSen sen = sensorMap.get(s.id);
+                if (sen == null) {
                     logger.debug("{}: Invalid id in sensor description: {}, index {}", thingName, s.id, i);
                     failed++;
                     continue;
                 }
-                CoIotDescrSen sen = sensorMap.get(s.id);
-                Objects.requireNonNull(sen);
                 // find matching sensor definition from device description, use the Link ID as index
-                sen = coiot.fixDescription(sen, blkMap);
-                if (!blkMap.containsKey(sen.links)) {
-                    logger.debug("{}: Invalid CoAP description: sen.links({}", thingName, getString(sen.links));
-                    continue;
-                }
-
-                if (!blkMap.containsKey(sen.links)) {
-                    logger.debug("{}: Unable to find BLK for link {} from sen.id={}", thingName, sen.links, sen.id);
+                CoIotDescrBlk element = blkMap.get(sen.links);
+                if (element == null) {
+                    logger.debug("{}: Unable to find BLK for link {} from sen.id={}", thingName, getString(sen.links),
+                            sen.id);
                     continue;
                 }
-                CoIotDescrBlk element = blkMap.get(sen.links);
                 logger.trace("{}:  Sensor value[{}]: id={}, Value={} ({}, Type={}, Range={}, Link={}: {})", thingName,
                         i, s.id, getString(s.valueStr).isEmpty() ? s.value : s.valueStr, sen.desc, sen.type, sen.range,
                         sen.links, element.desc);
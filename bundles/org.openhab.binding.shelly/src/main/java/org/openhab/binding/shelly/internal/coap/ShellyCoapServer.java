@@ -17,7 +17,10 @@ import static org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.COIOT_P
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.californium.core.CoapResource;
 import org.eclipse.californium.core.CoapServer;
@@ -37,7 +40,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages)
+ * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages).
+ * Each status event is routed to the listener of the device it was sent by, which is looked up by the IP address.
  *
  * @author Markus Michels - Initial contribution
  */
@@ -50,6 +54,11 @@ public class ShellyCoapServer {
     private @Nullable UdpMulticastConnector statusConnector;
     private final CoapServer server = new CoapServer(NetworkConfig.getStandard(), COIOT_PORT);;
     private final Set<ShellyCoapListener> coapListeners = new ConcurrentHashSet<>();
+    private final Map<String, ShellyCoapListener> listenersByIp = new ConcurrentHashMap<>();
+
+    private final AtomicLong packetsReceived = new AtomicLong();
+    private final AtomicLong packetsRouted = new AtomicLong();
+    private final AtomicLong packetsUnknown = new AtomicLong();
 
     protected class ShellyStatusListener extends CoapResource {
         private ShellyCoapServer listener;
@@ -76,7 +85,16 @@ public class ShellyCoapServer {
         }
     }
 
-    public synchronized void start(String localIp, ShellyCoapListener listener) throws UnknownHostException {
+    /**
+     * Starts the server if not done yet and registers a listener.
+     *
+     * @param localIp the address of the interface to listen on
+     * @param deviceIp the address or host name of the device the listener handles
+     * @param listener the listener to receive the status events of the device
+     * @throws UnknownHostException if an address cannot be resolved
+     */
+    public synchronized void start(String localIp, String deviceIp, ShellyCoapListener listener)
+            throws UnknownHostException {
         if (!started) {
             logger.debug("Initializing CoIoT listener (local IP={}:{})", localIp, COIOT_PORT);
             NetworkConfig nc = NetworkConfig.getStandard();
@@ -97,10 +115,45 @@ public class ShellyCoapServer {
         if (!coapListeners.contains(listener)) {
             coapListeners.add(listener);
         }
+        String ip = InetAddress.getByName(deviceIp).getHostAddress();
+        ShellyCoapListener previous = listenersByIp.put(ip, listener);
+        if (previous != null && previous != listener) {
+            logger.debug("CoIoT listener for device {} replaced, the device might be configured twice", ip);
+        }
     }
 
     protected void processResponse(Response response) {
-        coapListeners.forEach(listener -> listener.processResponse(response));
+        packetsReceived.incrementAndGet();
+        String ip = response.getSourceContext().getPeerAddress().getAddress().getHostAddress();
+        ShellyCoapListener listener = listenersByIp.get(ip);
+        if (listener != null) {
+            packetsRouted.incrementAndGet();
+            listener.processResponse(response);
+        } else {
+            packetsUnknown.incrementAndGet();
+            logger.trace("CoIoT message from unknown device {} discarded", ip);
+        }
+    }
+
+    /**
+     * @return the number of status events received
+     */
+    public long getPacketsReceived() {
+        return packetsReceived.get();
+    }
+
+    /**
+     * @return the number of status events routed to a listener
+     */
+    public long getPacketsRouted() {
+        return packetsRouted.get();
+    }
+
+    /**
+     * @return the number of status events discarded, as no listener is registered for the sender
+     */
+    public long getPacketsUnknown() {
+        return packetsUnknown.get();
     }
 
     public static Response createResponse(Request request) {
@@ -123,6 +176,7 @@ public class ShellyCoapServer {
      */
     public void stop(ShellyCoapListener listener) {
         coapListeners.remove(listener);
+        listenersByIp.values().removeIf(registered -> registered == listener);
         if (coapListeners.isEmpty()) {
             stop();
         }
@@ -134,8 +188,10 @@ public class ShellyCoapServer {
             server.stop();
             statusEndpoint.stop();
             coapListeners.clear();
+            listenersByIp.clear();
             started = false;
-            logger.debug("CoAP Listener stopped");
+            logger.debug("CoAP Listener stopped ({} status events received, {} routed, {} from unknown devices)",
+                    packetsReceived.get(), packetsRouted.get(), packetsUnknown.get());
         }
     }
 
@@ -43,6 +43,7 @@ import org.openhab.binding.shelly.internal.coap.ShellyCoapServer;
 import org.openhab.binding.shelly.internal.config.ShellyBindingConfiguration;
 import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
 import org.openhab.binding.shelly.internal.discovery.ShellyThingCreator;
+import org.openhab.binding.shelly.internal.handler.ShellyStatusScheduler.UpdateStatistics;
 import org.openhab.binding.shelly.internal.util.ShellyChannelCache;
 import org.openhab.binding.shelly.internal.util.ShellyTranslationProvider;
 import org.openhab.binding.shelly.internal.util.ShellyVersionDTO;
@@ -93,11 +94,16 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
     private long lastTimeoutErros = -1;
     private final StopWatch watchdog = new StopWatch();
 
-    private @Nullable ScheduledFuture<?> statusJob;
+    private final ShellyStatusScheduler statusScheduler;
+    private final UpdateStatistics updateStatistics = new UpdateStatistics();
+    private int pollPhase = -1;
     public int scheduledUpdates = 0;
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
     private boolean refreshSettings = false;
+    private boolean pollDeferred = false;
+    private volatile long lastCoIoTUpdate = 0;
+    private long lastHttpUpdate = 0;
 
     private @Nullable ScheduledFuture<?> asyncButtonRelease;
 
@@ -117,18 +123,21 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
      * @param bindingConfig The binding configuration (beside thing
      *            configuration)
      * @param coapServer coap server instance
+     * @param statusScheduler binding wide scheduler of the status updates
      * @param localIP local IP address from networkAddressService
      * @param httpPort from httpService
      */
     public ShellyBaseHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
-            final ShellyBindingConfiguration bindingConfig, final ShellyCoapServer coapServer, final String localIP,
-            int httpPort, final HttpClient httpClient) {
+            final ShellyBindingConfiguration bindingConfig, final ShellyCoapServer coapServer,
+            final ShellyStatusScheduler statusScheduler, final String localIP, int httpPort,
+            final HttpClient httpClient) {
         super(thing);
 
         this.messages = translationProvider;
         this.cache = new ShellyChannelCache(this);
         this.channelDefinitions = new ShellyChannelDefinitionsDTO(messages);
         this.bindingConfig = bindingConfig;
+        this.statusScheduler = statusScheduler;
 
         this.localIP = localIP;
         this.localPort = String.valueOf(httpPort);
@@ -345,13 +354,29 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
      * Update device status and channels
      */
     protected void refreshStatus() {
+        boolean requested = false;
         try {
             boolean updated = false;
 
             skipUpdate++;
             ThingStatus thingStatus = getThing().getStatus();
 
-            if (refreshSettings || (scheduledUpdates > 0) || (skipUpdate % skipCount == 0)) {
+            // the poll phase spreads the regular polls of all devices over the update cycles
+            boolean regularPoll = ShellyStatusScheduler.isPollCycle(skipUpdate, pollPhase, skipCount);
+            if (refreshSettings || (scheduledUpdates > 0) || pollDeferred || regularPoll) {
+                if (!refreshSettings && (scheduledUpdates == 0) && !pollDeferred && isCoIoTUpToDate()) {
+                    logger.trace("{}: Status is updated by CoIoT, skip regular poll", thingName);
+                    updateStatistics.suppressedPoll();
+                    return;
+                }
+                if (!statusScheduler.tryAcquireRequest()) {
+                    updateStatistics.deferredPoll();
+                    pollDeferred = true;
+                    return;
+                }
+                requested = true;
+                pollDeferred = false;
+
                 if (!profile.isInitialized() || ((thingStatus == ThingStatus.OFFLINE))
                         || (thingStatus == ThingStatus.UNKNOWN)) {
                     logger.debug("{}: Status update triggered thing initialization", thingName);
@@ -362,6 +387,8 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
 
                 logger.trace("{}: Updating status", thingName);
                 ShellySettingsStatus status = api.getStatus();
+                lastHttpUpdate = System.currentTimeMillis();
+                updateStatistics.httpUpdate();
 
                 // If status update was successful the thing must be online
                 setThingOnline();
@@ -421,7 +448,13 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
         } catch (NullPointerException | IllegalArgumentException e) {
             logger.debug("{}: Unable to refresh status: {}", thingName, messages.get("statusupdate.failed"), e);
         } finally {
-            if (scheduledUpdates > 0) {
+            if (requested) {
+                statusScheduler.releaseRequest();
+            }
+            if (pollDeferred) {
+                // requested updates are kept for the next cycle
+                logger.trace("{}: Too many pending status requests, retry in next cycle", thingName);
+            } else if (scheduledUpdates > 0) {
                 --scheduledUpdates;
                 logger.trace("{}: {} more updates requested", thingName, scheduledUpdates);
             } else if ((skipUpdate >= cacheCount) && !cache.isEnabled()) {
@@ -432,6 +465,28 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
         }
     }
 
+    /**
+     * Called by the CoIoT handler for every status update received from the device
+     */
+    public void coiotStatusReceived() {
+        lastCoIoTUpdate = System.currentTimeMillis();
+        updateStatistics.coiotUpdate();
+        // the regular polls are skipped while CoIoT updates are received, the device is alive
+        restartWatchdog();
+    }
+
+    /**
+     * Check if the regular HTTP poll can be skipped. This is the case if the device supports CoIoT for all status
+     * values and a status update was received within the regular poll interval. The status is still polled from
+     * time to time, e.g. to refresh values like the WiFi signal.
+     *
+     * @return true if the CoIoT updates are up to date
+     */
+    private boolean isCoIoTUpToDate() {
+        return autoCoIoT && isThingOnline() && ShellyStatusScheduler.isCoIoTUpToDate(System.currentTimeMillis(),
+                lastCoIoTUpdate, lastHttpUpdate, skipCount);
+    }
+
     public boolean isThingOnline() {
         return getThing().getStatus() == ThingStatus.ONLINE;
     }
@@ -799,12 +854,10 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
      * Start the background updates
      */
     protected void startUpdateJob() {
-        ScheduledFuture<?> statusJob = this.statusJob;
-        if ((statusJob == null) || statusJob.isCancelled()) {
-            this.statusJob = scheduler.scheduleWithFixedDelay(this::refreshStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
-                    TimeUnit.SECONDS);
-            logger.debug("{}: Update status job started, interval={}*{}={}sec.", thingName, skipCount,
-                    UPDATE_STATUS_INTERVAL_SECONDS, skipCount * UPDATE_STATUS_INTERVAL_SECONDS);
+        if (pollPhase < 0) {
+            pollPhase = statusScheduler.register(this);
+            logger.debug("{}: Status updates started, interval={}*{}={}sec., phase={}", thingName, skipCount,
+                    UPDATE_STATUS_INTERVAL_SECONDS, skipCount * UPDATE_STATUS_INTERVAL_SECONDS, pollPhase);
         }
     }
 
@@ -1131,13 +1184,14 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
 
     public void stop() {
         logger.debug("{}: Shutting down", thingName);
-        ScheduledFuture<?> job = this.statusJob;
-        if (job != null) {
-            job.cancel(true);
-            statusJob = null;
-            logger.debug("{}: Shelly statusJob stopped", thingName);
+        if (pollPhase >= 0) {
+            statusScheduler.unregister(this);
+            pollPhase = -1;
+            logger.debug("{}: Status updates stopped: {} by CoIoT, {} by HTTP, {} polls skipped, {} polls deferred",
+                    thingName, updateStatistics.getCoIoTUpdates(), updateStatistics.getHttpUpdates(),
+                    updateStatistics.getSuppressedPolls(), updateStatistics.getDeferredPolls());
         }
-        job = asyncButtonRelease;
+        ScheduledFuture<?> job = asyncButtonRelease;
         if (job != null) {
             job.cancel(true);
             asyncButtonRelease = null;
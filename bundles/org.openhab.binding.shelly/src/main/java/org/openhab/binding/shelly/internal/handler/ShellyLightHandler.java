@@ -60,13 +60,15 @@ public class ShellyLightHandler extends ShellyBaseHandler {
      * @param thing The thing passed by the HandlerFactory
      * @param bindingConfig configuration of the binding
      * @param coapServer coap server instance
+     * @param statusScheduler binding wide scheduler of the status updates
      * @param localIP local IP of the openHAB host
      * @param httpPort port of the openHAB HTTP API
      */
     public ShellyLightHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
-            final ShellyBindingConfiguration bindingConfig, final ShellyCoapServer coapServer, final String localIP,
-            int httpPort, final HttpClient httpClient) {
-        super(thing, translationProvider, bindingConfig, coapServer, localIP, httpPort, httpClient);
+            final ShellyBindingConfiguration bindingConfig, final ShellyCoapServer coapServer,
+            final ShellyStatusScheduler statusScheduler, final String localIP, int httpPort,
+            final HttpClient httpClient) {
+        super(thing, translationProvider, bindingConfig, coapServer, statusScheduler, localIP, httpPort, httpClient);
         channelColors = new TreeMap<>();
     }
 
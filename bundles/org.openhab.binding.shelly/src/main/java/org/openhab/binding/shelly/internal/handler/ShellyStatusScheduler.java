@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ShellyStatusScheduler} runs the status updates of all Shelly things from one binding wide job. Each
+ * device gets a poll phase, so the regular HTTP polls of the devices are spread over the update cycles rather than
+ * all hitting the network in the same cycle. The number of concurrent HTTP status requests is limited, a device
+ * not getting a request slot retries in the next cycle.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyStatusScheduler {
+    static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(ShellyStatusScheduler.class);
+    private final ScheduledExecutorService scheduler;
+    private final Map<ShellyBaseHandler, AtomicBoolean> devices = new ConcurrentHashMap<>();
+    private final Semaphore requests = new Semaphore(MAX_CONCURRENT_REQUESTS);
+    private @Nullable ScheduledFuture<?> statusJob;
+    private int nextPhase = 0;
+
+    public ShellyStatusScheduler() {
+        this(ThreadPoolManager.getScheduledPool("thingHandler"));
+    }
+
+    ShellyStatusScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Add a device to the status updates, the job gets started with the first device
+     *
+     * @param handler Thing handler of the device
+     * @return Poll phase of the device, devices registered one after another get consecutive phases
+     */
+    public synchronized int register(ShellyBaseHandler handler) {
+        if (devices.putIfAbsent(handler, new AtomicBoolean()) == null) {
+            logger.debug("{}: Device added to the status updates", handler.thingName);
+        }
+        if (statusJob == null) {
+            statusJob = scheduler.scheduleWithFixedDelay(this::updateStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
+                    TimeUnit.SECONDS);
+            logger.debug("Status update job started, interval={}sec", UPDATE_STATUS_INTERVAL_SECONDS);
+        }
+        return nextPhase++;
+    }
+
+    /**
+     * Remove a device from the status updates, the job gets stopped with the last device
+     *
+     * @param handler Thing handler of the device
+     */
+    public synchronized void unregister(ShellyBaseHandler handler) {
+        devices.remove(handler);
+        ScheduledFuture<?> job = statusJob;
+        if (devices.isEmpty() && (job != null)) {
+            job.cancel(false);
+            statusJob = null;
+            logger.debug("Status update job stopped");
+        }
+    }
+
+    /**
+     * Get a slot for an HTTP status request, must be released with {@link #releaseRequest()}
+     *
+     * @return true if the request may be sent, false if too many requests are pending
+     */
+    public boolean tryAcquireRequest() {
+        return requests.tryAcquire();
+    }
+
+    public void releaseRequest() {
+        requests.release();
+    }
+
+    /**
+     * Check if a device polls its status in the given update cycle
+     *
+     * @param cycle Number of the update cycle
+     * @param phase Poll phase of the device
+     * @param skipCount Number of update cycles between two regular polls
+     * @return true if the regular poll of the device is due
+     */
+    static boolean isPollCycle(int cycle, int phase, int skipCount) {
+        return (cycle + phase) % skipCount == 0;
+    }
+
+    /**
+     * Check if the status received by CoIoT is recent enough to skip a regular poll. A CoIoT update must have been
+     * received within the regular poll interval and the last HTTP poll must not be older than
+     * {@code UPDATE_COIOT_MAX_SKIP_SECONDS}.
+     *
+     * @param now Current time in ms
+     * @param lastCoIoTUpdate Time of the last CoIoT status update in ms, 0 if none was received
+     * @param lastHttpUpdate Time of the last HTTP status update in ms
+     * @param skipCount Number of update cycles between two regular polls
+     * @return true if the regular poll can be skipped
+     */
+    static boolean isCoIoTUpToDate(long now, long lastCoIoTUpdate, long lastHttpUpdate, int skipCount) {
+        return (lastCoIoTUpdate > 0)
+                && (now - lastCoIoTUpdate < TimeUnit.SECONDS.toMillis(skipCount * UPDATE_STATUS_INTERVAL_SECONDS))
+                && (now - lastHttpUpdate < TimeUnit.SECONDS.toMillis(UPDATE_COIOT_MAX_SKIP_SECONDS));
+    }
+
+    void updateStatus() {
+        for (Map.Entry<ShellyBaseHandler, AtomicBoolean> device : devices.entrySet()) {
+            ShellyBaseHandler handler = device.getKey();
+            AtomicBoolean running = device.getValue();
+            // a device still waiting for its last update (e.g. a timeout) is skipped for this cycle
+            if (running.compareAndSet(false, true)) {
+                scheduler.execute(() -> {
+                    try {
+                        handler.refreshStatus();
+                    } finally {
+                        running.set(false);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * The {@link UpdateStatistics} count how the status of a device was updated.
+     */
+    public static class UpdateStatistics {
+        private final AtomicLong coiotUpdates = new AtomicLong();
+        private final AtomicLong httpUpdates = new AtomicLong();
+        private final AtomicLong suppressedPolls = new AtomicLong();
+        private final AtomicLong deferredPolls = new AtomicLong();
+
+        void coiotUpdate() {
+            coiotUpdates.incrementAndGet();
+        }
+
+        void httpUpdate() {
+            httpUpdates.incrementAndGet();
+        }
+
+        void suppressedPoll() {
+            suppressedPolls.incrementAndGet();
+        }
+
+        void deferredPoll() {
+            deferredPolls.incrementAndGet();
+        }
+
+        /**
+         * @return Number of CoIoT status updates received
+         */
+        public long getCoIoTUpdates() {
+            return coiotUpdates.get();
+        }
+
+        /**
+         * @return Number of HTTP status updates
+         */
+        public long getHttpUpdates() {
+            return httpUpdates.get();
+        }
+
+        /**
+         * @return Number of regular HTTP polls skipped, because CoIoT updates were received
+         */
+        public long getSuppressedPolls() {
+            return suppressedPolls.get();
+        }
+
+        /**
+         * @return Number of HTTP polls moved to the next cycle, because too many requests were pending
+         */
+        public long getDeferredPolls() {
+            return deferredPolls.get();
+        }
+    }
+}
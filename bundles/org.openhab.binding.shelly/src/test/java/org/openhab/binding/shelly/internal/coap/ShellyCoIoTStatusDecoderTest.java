@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.coap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDescrSen;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensor;
+
+/**
+ * Tests the {@link ShellyCoIoTStatusDecoder} with status updates as sent by the devices.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyCoIoTStatusDecoderTest {
+    private final ShellyCoIoTStatusDecoder decoder = new ShellyCoIoTStatusDecoder();
+
+    @BeforeEach
+    public void setUp() {
+        List<CoIotDescrSen> sensors = new ArrayList<>();
+        for (String id : new String[] { "3115", "112", "111", "118", "119", "120", "9102", "4101", "4103", "3104" }) {
+            CoIotDescrSen sen = new CoIotDescrSen();
+            sen.id = id;
+            sensors.add(sen);
+        }
+        decoder.setSensors(sensors);
+    }
+
+    @Test
+    public void decodeNumericValues() {
+        // Shelly 2.5, CoIoT version 1
+        List<CoIotSensor> sensors = decoder
+                .decode("{\"G\":[[0,111,0.0],[0,112,0],[0,121,0.0],[0,113,1],[0,211,14.18],[0,311,-57.55]]}");
+
+        assertThat(sensors.size(), is(6));
+        assertSensor(sensors.get(0), "111", 0.0);
+        assertSensor(sensors.get(1), "112", 0);
+        assertSensor(sensors.get(3), "113", 1);
+        assertSensor(sensors.get(4), "211", 14.18);
+        assertSensor(sensors.get(5), "311", -57.55);
+    }
+
+    @Test
+    public void decodeVersion2Ids() {
+        // Shelly Dimmer 2, CoIoT version 2
+        List<CoIotSensor> sensors = decoder.decode("{\"G\":[[0,4101,0],[0,4103,1357.16],[0,3104,38.24],[0,9103,1]]}");
+
+        assertThat(sensors.size(), is(4));
+        assertSensor(sensors.get(0), "4101", 0);
+        assertSensor(sensors.get(1), "4103", 1357.16);
+        assertSensor(sensors.get(2), "3104", 38.24);
+        assertSensor(sensors.get(3), "9103", 1);
+    }
+
+    @Test
+    public void decodeStringValue() {
+        // Shelly Button 1
+        List<CoIotSensor> sensors = decoder.decode("{\"G\":[[0,118,1],[0,119,\"S\"],[0,120,4],[0,3115,0]]}");
+
+        assertThat(sensors.size(), is(4));
+        assertThat(sensors.get(1).id, is("119"));
+        assertThat(sensors.get(1).valueStr, is("S"));
+        assertThat(sensors.get(1).value, is(-1.0));
+    }
+
+    @Test
+    public void decodeEscapedStrings() {
+        List<CoIotSensor> sensors = decoder.decode(
+                "{\"G\":[[0,119,\"a\\\"b\\\\c\\/d\"],[0,120,\"\\u00e4\\u20AC\\n\"],[0,9102,[\"x\\\"y\",null]]]}");
+
+        assertThat(sensors.size(), is(3));
+        assertThat(sensors.get(0).valueStr, is("a\"b\\c/d"));
+        assertThat(sensors.get(1).valueStr, is("\u00e4\u20ac\n"));
+        assertThat(sensors.get(2).valueArray, is(List.of("x\"y")));
+    }
+
+    @Test
+    public void decodeArrayValue() {
+        List<CoIotSensor> sensors = decoder.decode("{\"G\":[[0,9102,[\"S\",12]],[0,112,1]]}");
+
+        assertThat(sensors.size(), is(2));
+        assertThat(sensors.get(0).id, is("9102"));
+        assertThat(sensors.get(0).valueArray, is(List.of("S")));
+        assertSensor(sensors.get(1), "112", 1);
+    }
+
+    @Test
+    public void decodeMalformedSeparators() {
+        // some firmware releases send "][" or "],,[" between the sensors
+        List<CoIotSensor> sensors = decoder.decode("{\"G\":[[0,111,1.5],,[0,112,1][0,118,-1]]}");
+
+        assertThat(sensors.size(), is(3));
+        assertSensor(sensors.get(0), "111", 1.5);
+        assertSensor(sensors.get(1), "112", 1);
+        assertSensor(sensors.get(2), "118", -1);
+    }
+
+    @Test
+    public void decodeWhitespace() {
+        List<CoIotSensor> sensors = decoder.decode("{ \"G\" : [ [ 0, 112, 1 ], [ 0, 111, 2.5e1 ] ] }");
+
+        assertThat(sensors.size(), is(2));
+        assertSensor(sensors.get(0), "112", 1);
+        assertSensor(sensors.get(1), "111", 25);
+    }
+
+    @Test
+    public void rejectInvalidPayloads() {
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("{\"blk\":[]}"));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("{\"G\":[[0,112,1]"));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("{\"G\":[[0,112,\"open]]}"));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("{\"G\":[[0,119,\"\\u00\"]]}"));
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode("{\"G\":[[0,1.5,1]]}"));
+    }
+
+    private static void assertSensor(CoIotSensor sensor, String id, double value) {
+        assertThat(sensor.id, is(id));
+        assertThat(sensor.value, is(value));
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.*;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests cases for {@link ShellyStatusScheduler}
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class ShellyStatusSchedulerTest {
+    private static final long NOW = 1_000_000_000L;
+    private static final long POLL_INTERVAL = TimeUnit.SECONDS
+            .toMillis(UPDATE_SKIP_COUNT * UPDATE_STATUS_INTERVAL_SECONDS);
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService executor;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> job;
+    private @Mock @NonNullByDefault({}) ShellyBaseHandler device1;
+    private @Mock @NonNullByDefault({}) ShellyBaseHandler device2;
+
+    private @NonNullByDefault({}) ShellyStatusScheduler scheduler;
+
+    @BeforeEach
+    public void initialize() {
+        scheduler = new ShellyStatusScheduler(executor);
+    }
+
+    @Test
+    public void jobRunsWhileDevicesAreRegistered() {
+        doReturn(job).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+
+        assertThat(scheduler.register(device1), is(0));
+        assertThat(scheduler.register(device2), is(1));
+        verify(executor, times(1)).scheduleWithFixedDelay(any(), anyLong(), eq((long) UPDATE_STATUS_INTERVAL_SECONDS),
+                eq(TimeUnit.SECONDS));
+
+        scheduler.unregister(device1);
+        verify(job, never()).cancel(anyBoolean());
+        scheduler.unregister(device2);
+        verify(job).cancel(false);
+
+        // the job is started again with the next device
+        scheduler.register(device1);
+        verify(executor, times(2)).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void runningUpdateIsNotStartedAgain() {
+        doReturn(job).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        scheduler.register(device1);
+        scheduler.register(device2);
+
+        scheduler.updateStatus();
+        ArgumentCaptor<Runnable> updates = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(2)).execute(updates.capture());
+
+        // the update of device 1 finished, device 2 is still waiting for its status
+        updates.getAllValues().get(0).run();
+        scheduler.updateStatus();
+        verify(executor, times(3)).execute(updates.capture());
+
+        updates.getAllValues().forEach(Runnable::run);
+        verify(device1, times(2)).refreshStatus();
+        verify(device2, times(1)).refreshStatus();
+    }
+
+    @Test
+    public void concurrentRequestsAreLimited() {
+        for (int i = 0; i < ShellyStatusScheduler.MAX_CONCURRENT_REQUESTS; i++) {
+            assertTrue(scheduler.tryAcquireRequest());
+        }
+        assertFalse(scheduler.tryAcquireRequest());
+
+        scheduler.releaseRequest();
+        assertTrue(scheduler.tryAcquireRequest());
+    }
+
+    @Test
+    public void pollPhasesAreSpreadOverCycles() {
+        int skipCount = 4;
+        for (int cycle = 1; cycle <= 8; cycle++) {
+            int polls = 0;
+            for (int phase = 0; phase < skipCount; phase++) {
+                polls += ShellyStatusScheduler.isPollCycle(cycle, phase, skipCount) ? 1 : 0;
+            }
+            // one of the devices polls in each cycle
+            assertThat(polls, is(1));
+        }
+        assertTrue(ShellyStatusScheduler.isPollCycle(4, 0, skipCount));
+        assertTrue(ShellyStatusScheduler.isPollCycle(3, 1, skipCount));
+        assertFalse(ShellyStatusScheduler.isPollCycle(4, 1, skipCount));
+    }
+
+    @Test
+    public void pollIsSkippedWithRecentCoIoTUpdate() {
+        assertTrue(ShellyStatusScheduler.isCoIoTUpToDate(NOW, NOW - 1000, NOW - 1000, UPDATE_SKIP_COUNT));
+        assertTrue(ShellyStatusScheduler.isCoIoTUpToDate(NOW, NOW - POLL_INTERVAL + 1, NOW - POLL_INTERVAL,
+                UPDATE_SKIP_COUNT));
+    }
+
+    @Test
+    public void pollIsRequiredWithoutCoIoTUpdate() {
+        assertFalse(ShellyStatusScheduler.isCoIoTUpToDate(NOW, 0, NOW - 1000, UPDATE_SKIP_COUNT));
+        // the last CoIoT update is older than the poll interval
+        assertFalse(ShellyStatusScheduler.isCoIoTUpToDate(NOW, NOW - POLL_INTERVAL, NOW - 1000, UPDATE_SKIP_COUNT));
+    }
+
+    @Test
+    public void pollIsRequiredAfterMaximumSkipTime() {
+        long maxSkip = TimeUnit.SECONDS.toMillis(UPDATE_COIOT_MAX_SKIP_SECONDS);
+        assertTrue(ShellyStatusScheduler.isCoIoTUpToDate(NOW, NOW - 1000, NOW - maxSkip + 1, UPDATE_SKIP_COUNT));
+        assertFalse(ShellyStatusScheduler.isCoIoTUpToDate(NOW, NOW - 1000, NOW - maxSkip, UPDATE_SKIP_COUNT));
+    }
+}
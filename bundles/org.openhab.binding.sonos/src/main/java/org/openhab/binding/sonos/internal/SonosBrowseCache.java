@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SonosBrowseCache} keeps the results of ContentDirectory browse requests, shared by all zone players of a
+ * household. A container is dropped when a player events a new update id for it, and after a maximum age in case an
+ * event was missed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosBrowseCache {
+
+    private static final long MAX_AGE = TimeUnit.MINUTES.toNanos(10);
+
+    private final Logger logger = LoggerFactory.getLogger(SonosBrowseCache.class);
+
+    private final Map<String, CachedEntries> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> lastUpdateIds = new ConcurrentHashMap<>();
+    // incremented by every invalidation, so results browsed meanwhile are not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private static String key(String household, String objectId) {
+        return household + "|" + objectId;
+    }
+
+    /**
+     * Returns the entries of a container, browsing it only if they are not cached.
+     *
+     * @param household the household the container belongs to
+     * @param objectId the id of the container
+     * @param filter the filter of the browse request
+     * @param browser browses the container
+     * @return the entries of the container
+     */
+    public List<SonosEntry> get(String household, String objectId, String filter,
+            Supplier<List<SonosEntry>> browser) {
+        String key = key(household, objectId) + "|" + filter;
+        CachedEntries cached = entries.get(key);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.time < MAX_AGE) {
+            logger.trace("Using cached entries of container {}", key);
+            return cached.entries;
+        }
+
+        long browseGeneration = generation.get();
+        List<SonosEntry> result = Collections.unmodifiableList(browser.get());
+        // an empty result might as well be a failed request, it is not cached
+        if (!result.isEmpty() && generation.get() == browseGeneration) {
+            entries.put(key, new CachedEntries(result, now));
+        }
+        return result;
+    }
+
+    /**
+     * Drops the cached containers after a player evented an update of them. The same update is evented by all players
+     * of the household, only the first notification drops the containers.
+     *
+     * @param household the household the containers belong to
+     * @param objectIdPrefix the id of the updated container, all containers whose id starts with it are dropped
+     * @param updateId the evented update id
+     */
+    public void invalidate(String household, String objectIdPrefix, String updateId) {
+        String prefix = key(household, objectIdPrefix);
+        if (!updateId.equals(lastUpdateIds.put(prefix, updateId))) {
+            invalidate(prefix);
+        }
+    }
+
+    /**
+     * Drops the cached containers after a change made by the binding itself.
+     *
+     * @param household the household the containers belong to
+     * @param objectIdPrefix the id of the updated container, all containers whose id starts with it are dropped
+     */
+    public void invalidate(String household, String objectIdPrefix) {
+        invalidate(key(household, objectIdPrefix));
+    }
+
+    private void invalidate(String prefix) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+        logger.trace("Dropped cached entries of containers {}", prefix);
+    }
+
+    private static class CachedEntries {
+        private final List<SonosEntry> entries;
+        private final long time;
+
+        CachedEntries(List<SonosEntry> entries, long time) {
+            this.entries = entries;
+            this.time = time;
+        }
+    }
+}
@@ -65,6 +65,7 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
 
     private final Map<String, ServiceRegistration<AudioSink>> audioSinkRegistrations = new ConcurrentHashMap<>();
+    private final SonosBrowseCache browseCache = new SonosBrowseCache();
 
     // optional OPML URL that can be configured through configuration admin
     private @Nullable String opmlUrl;
@@ -118,7 +119,7 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
                     thing.getConfiguration().get(UDN));
 
             ZonePlayerHandler handler = new ZonePlayerHandler(thingRegistry, thing, upnpIOService, opmlUrl,
-                    stateDescriptionProvider);
+                    stateDescriptionProvider, browseCache);
 
             // register the speaker as an audio sink
             String callbackUrl = createCallbackUrl();
@@ -58,6 +58,12 @@ public class SonosXMLParser {
                     + "<desc id=\"cdudn\" nameSpace=\"urn:schemas-rinconnetworks-com:metadata-1-0/\">" + "{4}</desc>"
                     + "</item></DIDL-Lite>");
 
+    // Creating a reader is expensive compared to parsing the small documents received from the players, so each thread
+    // keeps its reader. The reader is taken while parsing, so nested parsing creates another one.
+    private static final ThreadLocal<@Nullable XMLReader> XML_READERS = new ThreadLocal<>();
+    // set on pooled readers, so they do not keep the last handler and its results
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
     private enum Element {
         TITLE,
         CLASS,
@@ -92,9 +98,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             LOGGER.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -112,9 +116,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
@@ -133,11 +135,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             LOGGER.error("Could not parse Resource MetaData from String '{}'", xml);
         } catch (SAXException s) {
@@ -156,9 +156,7 @@ public class SonosXMLParser {
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
@@ -172,9 +170,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse RadioTime from string '{}'", xml);
@@ -186,11 +182,20 @@ public class SonosXMLParser {
     }
 
     public static Map<String, String> getRenderingControlFromXML(String xml) {
-        RenderingControlEventHandler handler = new RenderingControlEventHandler();
+        return getRenderingControlFromXML(xml, Map.of());
+    }
+
+    /**
+     * Decodes a LastChange event of the RenderingControl service, skipping the variables whose values did not change.
+     *
+     * @param xml the value of the LastChange variable
+     * @param previousValues the current values of the variables
+     * @return the variables with a value different from the current one
+     */
+    public static Map<String, String> getRenderingControlFromXML(String xml, Map<String, String> previousValues) {
+        RenderingControlEventHandler handler = new RenderingControlEventHandler(previousValues);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
@@ -201,11 +206,20 @@ public class SonosXMLParser {
     }
 
     public static Map<String, String> getAVTransportFromXML(String xml) {
-        AVTransportEventHandler handler = new AVTransportEventHandler();
+        return getAVTransportFromXML(xml, Map.of());
+    }
+
+    /**
+     * Decodes a LastChange event of the AVTransport service, skipping the variables whose values did not change.
+     *
+     * @param xml the value of the LastChange variable
+     * @param previousValues the current values of the variables
+     * @return the variables with a value different from the current one
+     */
+    public static Map<String, String> getAVTransportFromXML(String xml, Map<String, String> previousValues) {
+        AVTransportEventHandler handler = new AVTransportEventHandler(previousValues);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
@@ -218,9 +232,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse MetaData from string '{}'", xml);
@@ -234,9 +246,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, xml);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse music services from string '{}'", xml);
@@ -246,6 +256,28 @@ public class SonosXMLParser {
         return handler.getServices();
     }
 
+    private static void parse(DefaultHandler handler, String xml) throws IOException, SAXException {
+        parse(handler, new InputSource(new StringReader(xml)));
+    }
+
+    private static void parse(DefaultHandler handler, InputSource source) throws IOException, SAXException {
+        XMLReader reader = XML_READERS.get();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+        } else {
+            XML_READERS.remove();
+        }
+        reader.setContentHandler(handler);
+        reader.parse(source);
+        // a reader which failed is not reused, as its state is unknown
+        reader.setContentHandler(NO_HANDLER);
+        XML_READERS.set(reader);
+    }
+
+    private static boolean isUnchanged(Map<String, String> previousValues, String variable, String value) {
+        return value.equals(previousValues.get(variable));
+    }
+
     private static class EntryHandler extends DefaultHandler {
 
         // Maintain a set of elements about which it is unuseful to complain about.
@@ -713,6 +745,11 @@ public class SonosXMLParser {
          */
 
         private final Map<String, String> changes = new HashMap<>();
+        private final Map<String, String> previousValues;
+
+        AVTransportEventHandler(Map<String, String> previousValues) {
+            this.previousValues = previousValues;
+        }
 
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
@@ -726,7 +763,7 @@ public class SonosXMLParser {
                 LOGGER.info("{} is not defined in EventType. ", localName);
             } else {
                 String val = attributes == null ? null : attributes.getValue("val");
-                if (val != null) {
+                if (val != null && !isUnchanged(previousValues, localName, val)) {
                     changes.put(localName, val);
                 }
             }
@@ -844,9 +881,21 @@ public class SonosXMLParser {
 
         private final Map<String, String> changes = new HashMap<>();
 
+        private final Map<String, String> previousValues;
+
         private boolean getPresetName = false;
         private @Nullable String presetName;
 
+        RenderingControlEventHandler(Map<String, String> previousValues) {
+            this.previousValues = previousValues;
+        }
+
+        private void addChange(String variable, String value) {
+            if (!isUnchanged(previousValues, variable, value)) {
+                changes.put(variable, value);
+            }
+        }
+
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
                 @Nullable Attributes attributes) throws SAXException {
@@ -862,7 +911,7 @@ public class SonosXMLParser {
                     channel = attributes == null ? null : attributes.getValue("channel");
                     val = attributes == null ? null : attributes.getValue("val");
                     if (channel != null && val != null) {
-                        changes.put(qName + channel, val);
+                        addChange(qName + channel, val);
                     }
                     break;
                 case "Bass":
@@ -870,7 +919,7 @@ public class SonosXMLParser {
                 case "OutputFixed":
                     val = attributes == null ? null : attributes.getValue("val");
                     if (val != null) {
-                        changes.put(qName, val);
+                        addChange(qName, val);
                     }
                     break;
                 case "PresetNameList":
@@ -895,7 +944,7 @@ public class SonosXMLParser {
                 getPresetName = false;
                 String preset = presetName;
                 if (qName != null && preset != null) {
-                    changes.put(qName, preset);
+                    addChange(qName, preset);
                 }
             }
         }
@@ -927,10 +976,8 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(roomNameHandler, new InputSource(url.openStream()));
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -966,10 +1013,8 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(modelNameHandler, new InputSource(url.openStream()));
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
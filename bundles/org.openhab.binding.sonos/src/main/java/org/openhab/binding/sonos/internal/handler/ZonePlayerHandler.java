@@ -35,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sonos.internal.SonosAlarm;
+import org.openhab.binding.sonos.internal.SonosBrowseCache;
 import org.openhab.binding.sonos.internal.SonosBindingConstants;
 import org.openhab.binding.sonos.internal.SonosEntry;
 import org.openhab.binding.sonos.internal.SonosMetaData;
@@ -117,6 +118,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final UpnpIOService service;
     private final @Nullable String opmlUrl;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
+    private final SonosBrowseCache browseCache;
 
     private ZonePlayerConfiguration configuration = new ZonePlayerConfiguration();
 
@@ -142,6 +144,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private @Nullable List<SonosMusicService> musicServices;
 
+    private @Nullable String householdId;
+
     private enum LineInType {
         ANALOG,
         DIGITAL,
@@ -149,13 +153,15 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public ZonePlayerHandler(ThingRegistry thingRegistry, Thing thing, UpnpIOService upnpIOService,
-            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider) {
+            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider,
+            SonosBrowseCache browseCache) {
         super(thing);
         this.localThingRegistry = thingRegistry;
         this.opmlUrl = opmlUrl;
         logger.debug("Creating a ZonePlayerHandler for thing '{}'", getThing().getUID());
         this.service = upnpIOService;
         this.stateDescriptionProvider = stateDescriptionProvider;
+        this.browseCache = browseCache;
     }
 
     @Override
@@ -404,8 +410,9 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             this.stateMap.put(variable, value);
 
             // pre-process some variables, eg XML processing
+            // LastChange events repeat the unchanged variables, only the changed ones are decoded and dispatched
             if (service.equals("AVTransport") && variable.equals("LastChange")) {
-                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value);
+                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value, stateMap);
                 for (String parsedValue : parsedValues.keySet()) {
                     // Update the transport state after the update of the media information
                     // to not break the notification mechanism
@@ -427,7 +434,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             }
 
             if (service.equals("RenderingControl") && variable.equals("LastChange")) {
-                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value);
+                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value, stateMap);
                 for (String parsedValue : parsedValues.keySet()) {
                     onValueReceived(parsedValue, parsedValues.get(parsedValue), "RenderingControl");
                 }
@@ -556,12 +563,14 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     updateChannel(TUNEINSTATIONID);
                     break;
                 case "SavedQueuesUpdateID": // service ContentDirectoy
+                    browseCache.invalidate(getHouseholdId(), "SQ:", value);
                     for (SonosEntry entry : getPlayLists()) {
                         options.add(new StateOption(entry.getTitle(), entry.getTitle()));
                     }
                     stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), PLAYLIST), options);
                     break;
                 case "FavoritesUpdateID": // service ContentDirectoy
+                    browseCache.invalidate(getHouseholdId(), "FV:", value);
                     for (SonosEntry entry : getFavorites()) {
                         options.add(new StateOption(entry.getTitle(), entry.getTitle()));
                     }
@@ -571,6 +580,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 // Due to a bug in the data type definition of this state variable, it is not set.
                 // As a workaround, we check the state variable named ContainerUpdateIDs.
                 case "ContainerUpdateIDs": // service ContentDirectoy
+                    invalidateUpdatedContainers(value);
                     if (value.startsWith("R:0,") || stateDescriptionProvider
                             .getStateOptions(new ChannelUID(getThing().getUID(), RADIO)) == null) {
                         for (SonosEntry entry : getFavoriteRadios()) {
@@ -585,6 +595,34 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         }
     }
 
+    /**
+     * Drops the cached entries of the containers listed in a ContainerUpdateIDs event, e.g. "R:0,3,FV:2,12".
+     */
+    private void invalidateUpdatedContainers(String containerUpdateIds) {
+        String[] values = containerUpdateIds.split(",");
+        for (int i = 0; i + 1 < values.length; i += 2) {
+            browseCache.invalidate(getHouseholdId(), values[i], values[i + 1]);
+        }
+    }
+
+    /**
+     * Returns the household of the player, which the favorites and playlists belong to.
+     *
+     * @return the household id or the UDN of the player if the household cannot be determined
+     */
+    private String getHouseholdId() {
+        String id = householdId;
+        if (id == null) {
+            Map<String, String> result = service.invokeAction(this, "DeviceProperties", "GetHouseholdID", null);
+            id = result.get("CurrentHouseholdID");
+            if (id == null || id.isEmpty()) {
+                return getUDN();
+            }
+            householdId = id;
+        }
+        return id;
+    }
+
     private void dispatchOnAllGroupMembers(String variable, String value, String service) {
         if (isCoordinator()) {
             for (String member : getOtherZoneGroupMembers()) {
@@ -1291,19 +1329,19 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public List<SonosEntry> getPlayLists(String filter) {
-        return getEntries("SQ:", filter);
+        return getCachedEntries("SQ:", filter);
     }
 
     public List<SonosEntry> getPlayLists() {
-        return getEntries("SQ:", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getCachedEntries("SQ:", "dc:title,res,dc:creator,upnp:artist,upnp:album");
     }
 
     public List<SonosEntry> getFavoriteRadios(String filter) {
-        return getEntries("R:0/0", filter);
+        return getCachedEntries("R:0/0", filter);
     }
 
     public List<SonosEntry> getFavoriteRadios() {
-        return getEntries("R:0/0", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getCachedEntries("R:0/0", "dc:title,res,dc:creator,upnp:artist,upnp:album");
     }
 
     /**
@@ -1312,7 +1350,15 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * @return
      */
     public List<SonosEntry> getFavorites() {
-        return getEntries("FV:2", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getCachedEntries("FV:2", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+    }
+
+    /**
+     * Returns the entries of a container shared by all players of the household, browsing it only if it changed
+     * since it was last browsed by any player.
+     */
+    private List<SonosEntry> getCachedEntries(String type, String filter) {
+        return browseCache.get(getHouseholdId(), type, filter, () -> getEntries(type, filter));
     }
 
     protected List<SonosEntry> getEntries(String type, String filter) {
@@ -1544,6 +1590,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         inputs.put("ObjectID", queueID);
 
         Map<String, String> result = service.invokeAction(this, "AVTransport", "SaveQueue", inputs);
+        browseCache.invalidate(getHouseholdId(), "SQ:");
 
         for (String variable : result.keySet()) {
             this.onValueReceived(variable, result.get(variable), "AVTransport");
@@ -12,6 +12,7 @@
  */
 package org.openhab.io.openhabcloud.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -19,19 +20,22 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Request.FailureListener;
 import org.eclipse.jetty.client.api.Response;
-import org.eclipse.jetty.client.api.Response.ContentListener;
+import org.eclipse.jetty.client.api.Response.AsyncContentListener;
 import org.eclipse.jetty.client.api.Response.HeadersListener;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BytesContentProvider;
@@ -39,7 +43,7 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -65,6 +69,13 @@ import io.socket.engineio.client.Transport;
  * @author Kai Kreuzer - migrated code to new Jetty client and ESH APIs
  */
 public class CloudClient {
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
+    /*
+     * Time after which an incompletely filled response frame is sent anyway
+     */
+    private static final long FRAME_FLUSH_DELAY_MS = 10;
+
     /*
      * Logger for this class
      */
@@ -129,6 +140,39 @@ public class CloudClient {
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
 
+    /*
+     * Response content is aggregated to frames of this size (in bytes) before sending it to the openHAB Cloud
+     */
+    private final int responseFrameSize;
+
+    /*
+     * If more than this number of bytes has been handed to the socket but not yet written, reading of local responses
+     * is paused until the socket is drained
+     */
+    private final int responseBufferSize;
+
+    /*
+     * This variable holds the number of response bytes handed to the socket since it was last drained
+     */
+    private long bytesInFlight = 0;
+
+    /*
+     * This list holds the callbacks of paused responses, which are resumed when the socket is drained
+     */
+    private final List<Callback> pausedResponses = new ArrayList<>();
+
+    /*
+     * Statistics of the proxied responses
+     */
+    private final AtomicLong proxiedBytes = new AtomicLong();
+    private final AtomicLong proxiedFrames = new AtomicLong();
+    private final AtomicLong responsePauses = new AtomicLong();
+
+    /*
+     * This variable holds the aggregator which coalesces item updates before they are sent to the openHAB Cloud
+     */
+    private final ItemUpdateAggregator itemUpdateAggregator;
+
     /**
      * Constructor of CloudClient
      *
@@ -136,9 +180,13 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param responseFrameSize Size of the frames response content is sent in
+     * @param responseBufferSize Maximum number of response bytes waiting to be written to the socket
+     * @param itemUpdateWindow Time window in ms in which item updates are coalesced
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, int responseFrameSize, int responseBufferSize,
+            int itemUpdateWindow) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
@@ -146,6 +194,10 @@ public class CloudClient {
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
         this.jettyClient = httpClient;
+        this.responseFrameSize = responseFrameSize;
+        this.responseBufferSize = responseBufferSize;
+        this.itemUpdateAggregator = new ItemUpdateAggregator(
+                ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD), this::emitItemUpdate, itemUpdateWindow);
     }
 
     /**
@@ -180,6 +232,13 @@ public class CloudClient {
                         headers.put("remoteaccess", List.of(((Boolean) remoteAccessEnabled).toString()));
                     }
                 });
+                transport.on(Transport.EVENT_DRAIN, new Emitter.Listener() {
+                    @Override
+                    public void call(Object... args) {
+                        logger.trace("Transport.EVENT_DRAIN");
+                        onDrain();
+                    }
+                });
             }
         });
         socket.on(Socket.EVENT_CONNECT, new Emitter.Listener() {
@@ -232,6 +291,8 @@ public class CloudClient {
     public void onConnect() {
         logger.info("Connected to the openHAB Cloud service (UUID = {}, base URL = {})", this.uuid, this.localBaseUrl);
         isConnected = true;
+        // the cloud may have missed updates while disconnected
+        itemUpdateAggregator.reset();
     }
 
     /**
@@ -243,7 +304,60 @@ public class CloudClient {
                 this.localBaseUrl);
         isConnected = false;
         // And clean up the list of running requests
+        runningRequests.values().forEach(request -> request.abort(new InterruptedException()));
         runningRequests.clear();
+        // paused responses belong to aborted requests, let them complete
+        onDrain();
+    }
+
+    /*
+     * Callback method for the transport which is called when all data handed to it has been written
+     */
+    private void onDrain() {
+        List<Callback> resumedResponses;
+        synchronized (pausedResponses) {
+            bytesInFlight = 0;
+            resumedResponses = new ArrayList<>(pausedResponses);
+            pausedResponses.clear();
+        }
+        if (!resumedResponses.isEmpty()) {
+            logger.trace("Socket drained, resuming {} paused responses", resumedResponses.size());
+        }
+        resumedResponses.forEach(Callback::succeeded);
+    }
+
+    /*
+     * Emit a response frame and account for it in the socket flow control
+     */
+    private void emitResponseFrame(int requestId, byte[] body) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", body);
+            synchronized (pausedResponses) {
+                bytesInFlight += body.length;
+            }
+            socket.emit("responseContentBinary", responseJson);
+            proxiedBytes.addAndGet(body.length);
+            proxiedFrames.incrementAndGet();
+            logger.debug("Sent content of size {} to request {}", body.length, requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    /*
+     * Let the response continue if the socket is not congested, otherwise pause it until the socket is drained
+     */
+    private void resumeWhenWritable(Callback callback) {
+        synchronized (pausedResponses) {
+            if (bytesInFlight > responseBufferSize && isConnected) {
+                pausedResponses.add(callback);
+                responsePauses.incrementAndGet();
+                return;
+            }
+        }
+        callback.succeeded();
     }
 
     /**
@@ -333,7 +447,8 @@ public class CloudClient {
                 return;
             }
             ResponseListener listener = new ResponseListener(requestId);
-            request.onResponseHeaders(listener).onResponseContent(listener).onRequestFailure(listener).send(listener);
+            request.onResponseHeaders(listener).onResponseContentAsync(listener).onRequestFailure(listener)
+                    .send(listener);
             // If successfully submitted request to http client, add it to the list of currently
             // running requests to be able to cancel it if needed
             runningRequests.put(requestId, request);
@@ -465,11 +580,22 @@ public class CloudClient {
     /**
      * Send item update to openHAB Cloud
      *
+     * Updates are coalesced within the configured time window and updates which do not change the last state sent
+     * are dropped.
+     *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
+        if (isConnected()) {
+            itemUpdateAggregator.update(itemName, itemState);
+        } else {
+            logger.debug("No connection, Item update is not sent");
+        }
+    }
+
+    private void emitItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
@@ -497,9 +623,26 @@ public class CloudClient {
      */
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
+        logger.debug("Proxied {} bytes in {} frames, responses paused {} times", proxiedBytes.get(),
+                proxiedFrames.get(), responsePauses.get());
+        itemUpdateAggregator.shutdown();
         socket.disconnect();
     }
 
+    /**
+     * Returns the number of response bytes proxied to the openHAB Cloud
+     */
+    public long getProxiedBytes() {
+        return proxiedBytes.get();
+    }
+
+    /**
+     * Returns the number of requests from the openHAB Cloud which are currently processed
+     */
+    public int getRunningRequestCount() {
+        return runningRequests.size();
+    }
+
     public String getOpenHABVersion() {
         return openHABVersion;
     }
@@ -516,11 +659,12 @@ public class CloudClient {
      * An internal class which forwards response headers and data back to the openHAB Cloud
      */
     private class ResponseListener
-            implements Response.CompleteListener, HeadersListener, ContentListener, FailureListener {
+            implements Response.CompleteListener, HeadersListener, AsyncContentListener, FailureListener {
 
-        private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
         private int mRequestId;
         private boolean mHeadersSent = false;
+        private ByteArrayOutputStream mFrame;
+        private ScheduledFuture<?> mFlushJob;
 
         public ResponseListener(int requestId) {
             mRequestId = requestId;
@@ -542,6 +686,8 @@ public class CloudClient {
         public void onComplete(Result result) {
             // Remove this request from list of running requests
             runningRequests.remove(mRequestId);
+            // send the remaining content before finishing the response
+            flushFrame();
             if ((result != null && result.isFailed())
                     && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                 if (result.getFailure() != null) {
@@ -585,16 +731,43 @@ public class CloudClient {
         }
 
         @Override
-        public void onContent(Response response, ByteBuffer content) {
+        public void onContent(Response response, ByteBuffer content, Callback callback) {
             logger.debug("Jetty received response content of size {}", String.valueOf(content.remaining()));
-            JSONObject responseJson = new JSONObject();
-            try {
-                responseJson.put("id", mRequestId);
-                responseJson.put("body", BufferUtil.toArray(content));
-                socket.emit("responseContentBinary", responseJson);
-                logger.debug("Sent content to request {}", mRequestId);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
+            synchronized (this) {
+                while (content.hasRemaining()) {
+                    if (mFrame == null) {
+                        mFrame = new ByteArrayOutputStream(Math.min(content.remaining(), responseFrameSize));
+                    }
+                    int length = Math.min(content.remaining(), responseFrameSize - mFrame.size());
+                    if (content.hasArray()) {
+                        mFrame.write(content.array(), content.arrayOffset() + content.position(), length);
+                        content.position(content.position() + length);
+                    } else {
+                        byte[] chunk = new byte[length];
+                        content.get(chunk);
+                        mFrame.write(chunk, 0, length);
+                    }
+                    if (mFrame.size() >= responseFrameSize) {
+                        flushFrame();
+                    }
+                }
+                if (mFrame != null && mFlushJob == null) {
+                    // do not hold back content of streamed responses for too long
+                    mFlushJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD).schedule(this::flushFrame,
+                            FRAME_FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+                }
+            }
+            resumeWhenWritable(callback);
+        }
+
+        private synchronized void flushFrame() {
+            if (mFlushJob != null) {
+                mFlushJob.cancel(false);
+                mFlushJob = null;
+            }
+            if (mFrame != null) {
+                emitResponseFrame(mRequestId, mFrame.toByteArray());
+                mFrame = null;
             }
         }
 
@@ -73,10 +73,16 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_RESPONSE_FRAME_SIZE = "responseFrameSize";
+    private static final String CFG_RESPONSE_BUFFER_SIZE = "responseBufferSize";
+    private static final String CFG_ITEM_UPDATE_WINDOW = "itemUpdateWindow";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
     private static final int DEFAULT_LOCAL_OPENHAB_REQUEST_TIMEOUT = 30000;
+    private static final int DEFAULT_RESPONSE_FRAME_SIZE = 64 * 1024;
+    private static final int DEFAULT_RESPONSE_BUFFER_SIZE = 1024 * 1024;
+    private static final int DEFAULT_ITEM_UPDATE_WINDOW = 500;
     private static final String HTTPCLIENT_NAME = "openhabcloud";
     private static final String CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
     private static final SecureRandom SR = new SecureRandom();
@@ -93,6 +99,9 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
     private int localPort;
+    private int responseFrameSize = DEFAULT_RESPONSE_FRAME_SIZE;
+    private int responseBufferSize = DEFAULT_RESPONSE_BUFFER_SIZE;
+    private int itemUpdateWindow = DEFAULT_ITEM_UPDATE_WINDOW;
 
     @Activate
     public CloudService(final @Reference HttpClientFactory httpClientFactory,
@@ -207,6 +216,10 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             cloudBaseUrl = DEFAULT_URL;
         }
 
+        responseFrameSize = getIntConfig(config, CFG_RESPONSE_FRAME_SIZE, DEFAULT_RESPONSE_FRAME_SIZE, 1);
+        responseBufferSize = getIntConfig(config, CFG_RESPONSE_BUFFER_SIZE, DEFAULT_RESPONSE_BUFFER_SIZE, 1);
+        itemUpdateWindow = getIntConfig(config, CFG_ITEM_UPDATE_WINDOW, DEFAULT_ITEM_UPDATE_WINDOW, 0);
+
         exposedItems = new HashSet<>();
         Object expCfg = config.get(CFG_EXPOSE);
         if (expCfg instanceof String) {
@@ -242,13 +255,30 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, responseFrameSize, responseBufferSize, itemUpdateWindow);
         cloudClient.setOpenHABVersion(OpenHAB.getVersion());
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
     }
 
+    private int getIntConfig(Map<String, ?> config, String key, int defaultValue, int minValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString());
+            if (intValue >= minValue) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        logger.warn("Invalid value '{}' for '{}', using default {}", value, key, defaultValue);
+        return defaultValue;
+    }
+
     @Override
     public String getActionClassName() {
         return NotificationAction.class.getCanonicalName();
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class collects item updates to be sent to the openHAB Cloud. Within a time window only the latest state of
+ * each item is kept, and states equal to the last state sent for an item are dropped. At the end of the window all
+ * collected updates are sent at once.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemUpdateAggregator {
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateAggregator.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final BiConsumer<String, String> sender;
+    private final long window;
+
+    private final Map<String, String> pendingStates = new LinkedHashMap<>();
+    private final Map<String, String> lastSentStates = new HashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private final AtomicLong receivedUpdates = new AtomicLong();
+    private final AtomicLong coalescedUpdates = new AtomicLong();
+    private final AtomicLong unchangedUpdates = new AtomicLong();
+    private final AtomicLong sentUpdates = new AtomicLong();
+
+    /**
+     * Constructor of ItemUpdateAggregator
+     *
+     * @param scheduler scheduler used for sending the collected updates
+     * @param sender consumer of item name and state that sends a single update
+     * @param window the time window in ms, 0 sends every update immediately
+     */
+    public ItemUpdateAggregator(ScheduledExecutorService scheduler, BiConsumer<String, String> sender, long window) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.window = window;
+    }
+
+    /**
+     * Add an item update
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     */
+    public void update(String itemName, String itemState) {
+        receivedUpdates.incrementAndGet();
+        synchronized (this) {
+            if (pendingStates.put(itemName, itemState) != null) {
+                coalescedUpdates.incrementAndGet();
+            }
+            if (window > 0) {
+                if (flushJob == null) {
+                    flushJob = scheduler.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Forget the states sent so far, all following updates are sent even if they did not change. This is needed after
+     * the connection has been re-established.
+     */
+    public synchronized void reset() {
+        lastSentStates.clear();
+    }
+
+    /**
+     * Discard all pending updates
+     */
+    public synchronized void shutdown() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        pendingStates.clear();
+        logger.debug("Item updates: {} received, {} coalesced, {} unchanged, {} sent", receivedUpdates.get(),
+                coalescedUpdates.get(), unchangedUpdates.get(), sentUpdates.get());
+    }
+
+    /**
+     * Returns the number of updates replaced by a newer update of the same item within the window
+     */
+    public long getCoalescedUpdates() {
+        return coalescedUpdates.get();
+    }
+
+    /**
+     * Returns the number of updates dropped because the state was equal to the last state sent
+     */
+    public long getUnchangedUpdates() {
+        return unchangedUpdates.get();
+    }
+
+    /**
+     * Returns the number of updates sent to the openHAB Cloud
+     */
+    public long getSentUpdates() {
+        return sentUpdates.get();
+    }
+
+    private void flush() {
+        Map<String, String> updates = new LinkedHashMap<>();
+        synchronized (this) {
+            flushJob = null;
+            pendingStates.forEach((itemName, itemState) -> {
+                if (itemState.equals(lastSentStates.put(itemName, itemState))) {
+                    unchangedUpdates.incrementAndGet();
+                } else {
+                    updates.put(itemName, itemState);
+                }
+            });
+            pendingStates.clear();
+        }
+        if (!updates.isEmpty()) {
+            logger.trace("Sending {} item updates", updates.size());
+            updates.forEach(sender);
+            sentUpdates.addAndGet(updates.size());
+        }
+    }
+}